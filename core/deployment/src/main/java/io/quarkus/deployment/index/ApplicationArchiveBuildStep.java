@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -12,23 +14,28 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 
@@ -43,6 +50,7 @@ import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -56,8 +64,12 @@ public class ApplicationArchiveBuildStep {
     // At least Jandex 2.1 is needed
     private static final int REQUIRED_INDEX_VERSION = 8;
 
+    private static final String INDEX_CACHE_DIR = "quarkus-index-cache";
+
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -68,6 +80,17 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(name = "index-cache", phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * Whether the indexes of dependencies that do not contain a Jandex index should be stored in the build system
+         * target directory, so that unchanged dependencies do not need to be indexed again in subsequent builds.
+         * The indexes are keyed by the hash of the dependency content.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -81,7 +104,7 @@ public class ApplicationArchiveBuildStep {
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItem,
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
-            LiveReloadBuildItem liveReloadContext) throws IOException {
+            LiveReloadBuildItem liveReloadContext, BuildSystemTargetBuildItem buildSystemTarget) throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -90,7 +113,11 @@ public class ApplicationArchiveBuildStep {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
-            indexCache = new IndexCache();
+            Path cacheDir = null;
+            if (indexCacheConfig.enabled && buildSystemTarget.getOutputDirectory() != null) {
+                cacheDir = buildSystemTarget.getOutputDirectory().resolve(INDEX_CACHE_DIR);
+            }
+            indexCache = new IndexCache(cacheDir);
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
 
@@ -154,13 +181,31 @@ public class ApplicationArchiveBuildStep {
             throws IOException {
         List<ApplicationArchive> ret = new ArrayList<>();
 
-        for (final Path dep : dependenciesToIndex) {
-            LOGGER.debugf("Indexing dependency: %s", dep);
+        List<Path> dependencies = new ArrayList<>(dependenciesToIndex);
+        // Indexing is CPU bound, so the archives are indexed in parallel
+        List<IndexView> indexes;
+        try {
+            indexes = dependencies.parallelStream().map(new Function<Path, IndexView>() {
+                @Override
+                public IndexView apply(Path dep) {
+                    LOGGER.debugf("Indexing dependency: %s", dep);
+                    try {
+                        return Files.isDirectory(dep) ? handleFilePath(dep) : handleJarPath(dep, indexCache);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }).collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        for (int i = 0; i < dependencies.size(); i++) {
+            Path dep = dependencies.get(i);
+            IndexView index = indexes.get(i);
             if (Files.isDirectory(dep)) {
-                IndexView indexView = handleFilePath(dep);
-                ret.add(new ApplicationArchiveImpl(indexView, dep, null, false, dep));
+                ret.add(new ApplicationArchiveImpl(index, dep, null, false, dep));
             } else {
-                IndexView index = handleJarPath(dep, indexCache);
                 FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
                 ret.add(new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs, true, dep));
             }
@@ -245,31 +290,38 @@ public class ApplicationArchiveBuildStep {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache) throws IOException {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try (JarFile file = new JarFile(path.toFile())) {
-                    ZipEntry existing = file.getEntry(JANDEX_INDEX);
-                    if (existing != null) {
-                        try (InputStream in = file.getInputStream(existing)) {
-                            IndexReader reader = new IndexReader(in);
-                            if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
-                                LOGGER.warnf(
-                                        "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
-                                        path);
-                                return indexJar(file);
-                            } else {
-                                return reader.read();
-                            }
-                        }
+    private static Index handleJarPath(Path path, IndexCache indexCache) {
+        Index index = indexCache.cache.get(path);
+        if (index != null) {
+            return index;
+        }
+        // Indexed outside of the map so that the parallel workers do not block each other, indexing the same jar twice
+        // is harmless
+        index = indexJarPath(path, indexCache);
+        Index previous = indexCache.cache.putIfAbsent(path, index);
+        return previous != null ? previous : index;
+    }
+
+    private static Index indexJarPath(Path path, IndexCache indexCache) {
+        try (JarFile file = new JarFile(path.toFile())) {
+            ZipEntry existing = file.getEntry(JANDEX_INDEX);
+            if (existing != null) {
+                try (InputStream in = file.getInputStream(existing)) {
+                    IndexReader reader = new IndexReader(in);
+                    if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
+                        LOGGER.warnf(
+                                "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
+                                path);
+                        return indexCache.indexJar(path, file);
+                    } else {
+                        return reader.read();
                     }
-                    return indexJar(file);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
                 }
             }
-        });
+            return indexCache.indexJar(path, file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to process " + path, e);
+        }
     }
 
     private static Index indexJar(JarFile file) throws IOException {
@@ -289,10 +341,75 @@ public class ApplicationArchiveBuildStep {
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * The indexes of jars that do not contain a Jandex index are also stored on disk if a cache directory is set. The
+     * stored indexes are keyed by the hash of the jar content, so they can be used in subsequent builds.
      */
     private static final class IndexCache {
 
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
+
+        private final Path cacheDir;
+
+        IndexCache(Path cacheDir) {
+            this.cacheDir = cacheDir;
+        }
+
+        Index indexJar(Path path, JarFile file) throws IOException {
+            if (cacheDir == null) {
+                return ApplicationArchiveBuildStep.indexJar(file);
+            }
+            Path cached = cacheDir.resolve(hash(path) + ".idx");
+            if (Files.isRegularFile(cached)) {
+                try (InputStream in = Files.newInputStream(cached)) {
+                    IndexReader reader = new IndexReader(in);
+                    if (reader.getIndexVersion() >= REQUIRED_INDEX_VERSION) {
+                        LOGGER.debugf("Using cached index for %s", path);
+                        return reader.read();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.debugf(e, "Unable to read the cached index for %s", path);
+                }
+            }
+            Index index = ApplicationArchiveBuildStep.indexJar(file);
+            try {
+                Files.createDirectories(cacheDir);
+                // Write to a temporary file first so that concurrent builds never read an incomplete index
+                Path tmp = Files.createTempFile(cacheDir, "index", ".tmp");
+                try {
+                    try (OutputStream out = Files.newOutputStream(tmp)) {
+                        new IndexWriter(out).write(index);
+                    }
+                    Files.move(tmp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            } catch (IOException e) {
+                LOGGER.debugf(e, "Unable to store the index for %s", path);
+            }
+            return index;
+        }
+
+        private static String hash(Path path) throws IOException {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            byte[] buffer = new byte[8192];
+            try (InputStream in = Files.newInputStream(path)) {
+                int r;
+                while ((r = in.read(buffer)) > 0) {
+                    digest.update(buffer, 0, r);
+                }
+            }
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest.digest()) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        }
 
     }
 }
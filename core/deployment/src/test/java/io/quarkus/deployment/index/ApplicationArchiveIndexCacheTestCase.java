@@ -0,0 +1,179 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.ApplicationArchiveImpl;
+import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
+import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+
+public class ApplicationArchiveIndexCacheTestCase {
+
+    private static final DotName FOO = DotName.createSimple(Foo.class.getName());
+    private static final DotName BAR = DotName.createSimple(Bar.class.getName());
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testIndexIsStoredInTargetDirectory() throws IOException {
+        Path jar = createJar(Foo.class);
+
+        assertNotNull(index(jar).getClassByName(FOO));
+        List<Path> entries = cacheEntries();
+        assertEquals(1, entries.size());
+        assertEquals(dir.resolve("target").resolve("quarkus-index-cache"), entries.get(0).getParent());
+    }
+
+    @Test
+    public void testIndexIsReusedWhenJarIsUnchanged() throws IOException {
+        Path jar = createJar(Foo.class);
+        index(jar);
+
+        // replace the stored index so that it can be told apart from a fresh one
+        try (OutputStream out = Files.newOutputStream(cacheEntries().get(0))) {
+            new IndexWriter(out).write(indexOf(Bar.class));
+        }
+        IndexView index = index(jar);
+        assertNotNull(index.getClassByName(BAR));
+        assertNull(index.getClassByName(FOO));
+    }
+
+    @Test
+    public void testIndexIsInvalidatedWhenJarChanges() throws IOException {
+        Path jar = createJar(Foo.class);
+        index(jar);
+
+        createJar(Foo.class, Bar.class);
+        IndexView index = index(jar);
+        assertNotNull(index.getClassByName(FOO));
+        assertNotNull(index.getClassByName(BAR));
+        assertEquals(2, cacheEntries().size());
+    }
+
+    @Test
+    public void testTruncatedIndexIsRebuilt() throws IOException {
+        Path jar = createJar(Foo.class);
+        index(jar);
+
+        Path entry = cacheEntries().get(0);
+        byte[] content = Files.readAllBytes(entry);
+        Files.write(entry, Arrays.copyOf(content, content.length / 2));
+        assertNotNull(index(jar).getClassByName(FOO));
+        assertArrayEquals(content, Files.readAllBytes(entry), "The truncated index should have been replaced");
+    }
+
+    @Test
+    public void testCorruptIndexIsRebuilt() throws IOException {
+        Path jar = createJar(Foo.class);
+        index(jar);
+
+        Path entry = cacheEntries().get(0);
+        byte[] content = Files.readAllBytes(entry);
+        Files.write(entry, "not an index".getBytes(StandardCharsets.UTF_8));
+        assertNotNull(index(jar).getClassByName(FOO));
+        assertArrayEquals(content, Files.readAllBytes(entry), "The corrupt index should have been replaced");
+    }
+
+    /**
+     * Runs the build step as a new build would, i.e. without the in-memory cache of a previous build.
+     */
+    private IndexView index(Path jar) throws IOException {
+        ApplicationArchiveBuildStep step = new ApplicationArchiveBuildStep();
+        step.config = new ApplicationArchiveBuildStep.IndexDependencyConfiguration();
+        step.config.indexDependency = Collections.emptyMap();
+        step.indexCacheConfig = new ApplicationArchiveBuildStep.IndexCacheConfiguration();
+        step.indexCacheConfig.enabled = true;
+
+        Path appClasses = Files.createDirectories(dir.resolve("classes"));
+        Thread thread = Thread.currentThread();
+        ClassLoader old = thread.getContextClassLoader();
+        // do not index the dependencies of the test
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+            thread.setContextClassLoader(classLoader);
+            ApplicationArchivesBuildItem archives = step.build(new ArchiveRootBuildItem(appClasses),
+                    new ApplicationIndexBuildItem(new Indexer().complete()), Collections.emptyList(),
+                    Collections.singletonList(new AdditionalApplicationArchiveBuildItem(jar)), Collections.emptyList(),
+                    new LiveReloadBuildItem(), new BuildSystemTargetBuildItem(dir.resolve("target"), "test"));
+            assertEquals(1, archives.getApplicationArchives().size());
+            ApplicationArchive archive = archives.getApplicationArchives().iterator().next();
+            ((ApplicationArchiveImpl) archive).close();
+            return archive.getIndex();
+        } finally {
+            thread.setContextClassLoader(old);
+        }
+    }
+
+    private List<Path> cacheEntries() throws IOException {
+        try (Stream<Path> entries = Files.list(dir.resolve("target").resolve("quarkus-index-cache"))) {
+            return entries.collect(Collectors.toList());
+        }
+    }
+
+    private Path createJar(Class<?>... classes) throws IOException {
+        Path jar = dir.resolve("dependency.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Class<?> clazz : classes) {
+                out.putNextEntry(new JarEntry(clazz.getName().replace('.', '/') + ".class"));
+                try (InputStream in = classFile(clazz)) {
+                    byte[] buffer = new byte[8192];
+                    int r;
+                    while ((r = in.read(buffer)) > 0) {
+                        out.write(buffer, 0, r);
+                    }
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static Index indexOf(Class<?> clazz) throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream in = classFile(clazz)) {
+            indexer.index(in);
+        }
+        return indexer.complete();
+    }
+
+    private static InputStream classFile(Class<?> clazz) {
+        return clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class");
+    }
+
+    static class Foo {
+    }
+
+    static class Bar {
+    }
+}
@@ -0,0 +1,108 @@
+package io.quarkus.agroal.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AgroalStatementCacheTestCase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-statement-cache.properties");
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testDriverStatementCacheIsConfigured() throws SQLException {
+        Assertions.assertEquals("2", dataSource.getConfiguration().connectionPoolConfiguration()
+                .connectionFactoryConfiguration().jdbcProperties().getProperty("QUERY_CACHE_SIZE"));
+        prepareAndExecute("SELECT 1");
+    }
+
+    @Test
+    public void testStatementMetrics() throws SQLException {
+        String sql = "SELECT X FROM SYSTEM_RANGE(1, 3) WHERE X > ?";
+        prepareAndExecute(sql);
+        prepareAndExecute(sql);
+
+        Tag[] tags = new Tag[] { new Tag("datasource", "default"), new Tag("sql", sql) };
+        Counter executionCount = registry.getCounters().get(new MetricID("agroal.statement.execution.count", tags));
+        Counter rowCount = registry.getCounters().get(new MetricID("agroal.statement.row.count", tags));
+        Gauge<?> executionTimeMax = registry.getGauges().get(new MetricID("agroal.statement.execution.time.max", tags));
+        Assertions.assertNotNull(executionCount, "Statement metrics should be registered on first execution");
+        Assertions.assertNotNull(executionTimeMax, "Statement metrics should be registered on first execution");
+        Assertions.assertEquals(2L, executionCount.getCount());
+        Assertions.assertEquals(6L, rowCount.getCount());
+    }
+
+    @Test
+    public void testResultsRetrievedAfterExecution() throws SQLException {
+        String query = "SELECT X FROM SYSTEM_RANGE(1, 4)";
+        String insert = "INSERT INTO generated_keys(name) VALUES (?)";
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE generated_keys (id IDENTITY PRIMARY KEY, name VARCHAR(255))");
+                Assertions.assertTrue(statement.execute(query));
+                try (ResultSet resultSet = statement.getResultSet()) {
+                    while (resultSet.next()) {
+                        Assertions.assertSame(statement, resultSet.getStatement());
+                    }
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(insert, Statement.RETURN_GENERATED_KEYS)) {
+                statement.setString(1, "foo");
+                Assertions.assertEquals(1, statement.executeUpdate());
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    Assertions.assertTrue(generatedKeys.next());
+                    Assertions.assertFalse(generatedKeys.next());
+                }
+            }
+        }
+
+        Assertions.assertEquals(4L, rowCount(query));
+        // the generated key is not counted
+        Assertions.assertEquals(1L, rowCount(insert));
+    }
+
+    private long rowCount(String sql) {
+        Tag[] tags = new Tag[] { new Tag("datasource", "default"), new Tag("sql", sql) };
+        return registry.getCounters().get(new MetricID("agroal.statement.row.count", tags)).getCount();
+    }
+
+    private void prepareAndExecute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                if (statement.getParameterMetaData().getParameterCount() > 0) {
+                    statement.setInt(1, 0);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        Assertions.assertSame(statement, resultSet.getStatement());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import io.agroal.narayana.NarayanaTransactionIntegration;
 import io.quarkus.agroal.runtime.DataSourcesJdbcBuildTimeConfig.DataSourceJdbcOuterNamedBuildTimeConfig;
 import io.quarkus.agroal.runtime.DataSourcesJdbcRuntimeConfig.DataSourceJdbcOuterNamedRuntimeConfig;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InstanceHandle;
@@ -149,10 +150,29 @@ public abstract class AbstractDataSourceProducer {
             }
         }
 
+        if (!isLegacy && dataSourceJdbcRuntimeConfig.statementCacheSize.isPresent()) {
+            if (agroalConnectionConfigurerHandle.isAvailable()) {
+                agroalConnectionConfigurerHandle.get().setStatementCacheSize(resolvedDbKind, dataSourceConfiguration,
+                        dataSourceJdbcRuntimeConfig.statementCacheSize.getAsInt());
+            } else {
+                log.warnv("Agroal does not support configuring the prepared statement cache for database kind: {0}",
+                        resolvedDbKind);
+            }
+        }
+
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
         AgroalDataSourceConfiguration agroalConfiguration = dataSourceConfiguration.get();
         AgroalDataSource dataSource = new io.agroal.pool.DataSource(agroalConfiguration,
                 new AgroalEventLoggingListener(dataSourceName));
+        if (!isLegacy && dataSourceJdbcRuntimeConfig.enableStatementMetrics) {
+            if (mpMetricsPresent && dataSourcesBuildTimeConfig.metricsEnabled
+                    && dataSourceJdbcBuildTimeConfig.enableMetrics.orElse(true)) {
+                dataSource = new StatementInterceptingDataSource(dataSource, new StatementMetrics(dataSourceName));
+            } else {
+                log.warnv("Statement metrics are enabled for datasource {0} but its metrics are not exposed",
+                        dataSourceName);
+            }
+        }
         log.debugv("Started datasource {0} connected to {1}", dataSourceName,
                 agroalConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcUrl());
 
@@ -12,4 +12,9 @@ public interface AgroalConnectionConfigurer {
         log.warnv("Agroal does not support disabling SSL for database kind: {0}", databaseKind);
     }
 
+    default void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize) {
+        log.warnv("Agroal does not support configuring the prepared statement cache for database kind: {0}", databaseKind);
+    }
+
 }
@@ -96,4 +96,20 @@ public class DataSourceJdbcRuntimeConfig {
      */
     @ConfigItem
     public Optional<String> validationQuerySql = Optional.empty();
+
+    /**
+     * The number of prepared statements cached by the JDBC driver for each connection of the pool.
+     * <p>
+     * Set to {@code 0} to disable the cache. If not set, the default of the driver applies.
+     */
+    @ConfigItem
+    public OptionalInt statementCacheSize = OptionalInt.empty();
+
+    /**
+     * Whether the execution count, the execution time and the row count of each SQL statement are exposed as metrics.
+     * <p>
+     * The metrics of this datasource and the `quarkus-smallrye-metrics` extension must be enabled.
+     */
+    @ConfigItem
+    public boolean enableStatementMetrics;
 }
@@ -0,0 +1,276 @@
+package io.quarkus.agroal.runtime;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
+import io.quarkus.agroal.runtime.metrics.StatementStatistics;
+
+/**
+ * An {@link AgroalDataSource} recording the execution statistics of each SQL statement.
+ * <p>
+ * Agroal doesn't provide any hook on statements so the connections handed out by the pool are wrapped in dynamic
+ * proxies. The statements are still created through the Agroal connection, which keeps tracking them.
+ */
+final class StatementInterceptingDataSource implements AgroalDataSource {
+
+    private static final long serialVersionUID = 1L;
+
+    private final AgroalDataSource delegate;
+    private final transient StatementMetrics statementMetrics;
+
+    StatementInterceptingDataSource(AgroalDataSource delegate, StatementMetrics statementMetrics) {
+        this.delegate = delegate;
+        this.statementMetrics = statementMetrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(delegate.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        ConnectionHandler handler = new ConnectionHandler(connection);
+        handler.proxy = (Connection) Proxy.newProxyInstance(StatementInterceptingDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, handler);
+        return handler.proxy;
+    }
+
+    @Override
+    public AgroalDataSourceConfiguration getConfiguration() {
+        return delegate.getConfiguration();
+    }
+
+    @Override
+    public AgroalDataSourceMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public void flush(FlushMode mode) {
+        delegate.flush(mode);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return delegate.isWrapperFor(iface);
+    }
+
+    private static Object invokeDelegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object invokeObjectMethod(Object proxy, Object target, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return target.toString();
+        }
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Integer || result instanceof Long) {
+            return ((Number) result).longValue();
+        }
+        long rows = 0;
+        if (result instanceof int[]) {
+            for (int count : (int[]) result) {
+                rows += Math.max(count, 0);
+            }
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) {
+                rows += Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private Connection proxy;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, connection, method, args);
+            }
+            switch (method.getName()) {
+                case "prepareStatement":
+                case "prepareCall":
+                    return wrap((Statement) invokeDelegate(connection, method, args), (String) args[0]);
+                case "createStatement":
+                    return wrap((Statement) invokeDelegate(connection, method, args), null);
+                default:
+                    return invokeDelegate(connection, method, args);
+            }
+        }
+
+        private Object wrap(Statement statement, String sql) {
+            StatementHandler handler = new StatementHandler(this, statement, sql);
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+            handler.proxy = (Statement) Proxy.newProxyInstance(StatementInterceptingDataSource.class.getClassLoader(),
+                    new Class<?>[] { type }, handler);
+            return handler.proxy;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final ConnectionHandler connection;
+        private final Statement statement;
+        private final String sql;
+        private Statement proxy;
+        // the statistics of the last execution, also counting the rows of the result set retrieved afterwards
+        private StatementStatistics statistics;
+
+        StatementHandler(ConnectionHandler connection, Statement statement, String sql) {
+            this.connection = connection;
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, statement, method, args);
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            switch (name) {
+                case "getConnection":
+                    return connection.proxy;
+                case "getResultSet":
+                    // the generated keys are not counted, the updated rows already are
+                    return wrap(invokeDelegate(statement, method, args));
+                default:
+                    return invokeDelegate(statement, method, args);
+            }
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            Object result = invokeDelegate(statement, method, args);
+            long duration = System.nanoTime() - start;
+
+            String executedSql = sql;
+            if (executedSql == null && args != null && args.length > 0 && args[0] instanceof String) {
+                executedSql = (String) args[0];
+            }
+            statistics = executedSql != null ? statementMetrics.get(executedSql) : null;
+            if (statistics == null) {
+                return result;
+            }
+            statistics.recordExecution(duration, updateCount(result));
+            return wrap(result);
+        }
+
+        private Object wrap(Object result) {
+            if (statistics != null && result instanceof ResultSet) {
+                return Proxy.newProxyInstance(StatementInterceptingDataSource.class.getClassLoader(),
+                        new Class<?>[] { ResultSet.class }, new ResultSetHandler((ResultSet) result, proxy, statistics));
+            }
+            return result;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet resultSet;
+        private final Statement statement;
+        private final StatementStatistics statistics;
+
+        ResultSetHandler(ResultSet resultSet, Statement statement, StatementStatistics statistics) {
+            this.resultSet = resultSet;
+            this.statement = statement;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, resultSet, method, args);
+            }
+            switch (method.getName()) {
+                case "next":
+                    boolean next = resultSet.next();
+                    if (next) {
+                        statistics.recordRow();
+                    }
+                    return next;
+                case "getStatement":
+                    return statement;
+                default:
+                    return invokeDelegate(resultSet, method, args);
+            }
+        }
+    }
+}
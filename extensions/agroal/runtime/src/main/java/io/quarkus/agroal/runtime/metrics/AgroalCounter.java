@@ -13,6 +13,7 @@ public class AgroalCounter implements Counter {
     private String dataSourceName;
     private volatile AgroalDataSource dataSource;
     private String metric;
+    private StatementStatistics statement;
 
     public AgroalCounter() {
 
@@ -28,6 +29,16 @@ public class AgroalCounter implements Counter {
         this.metric = metricName;
     }
 
+    /**
+     * @param dataSourceName Which datasource executed the statement
+     * @param metricName Name of the method from StatementStatistics that should be called to retrieve the particular value.
+     * @param statement The statistics of the statement
+     */
+    public AgroalCounter(String dataSourceName, String metricName, StatementStatistics statement) {
+        this(dataSourceName, metricName);
+        this.statement = statement;
+    }
+
     public String getDataSourceName() {
         return dataSourceName;
     }
@@ -77,6 +88,16 @@ public class AgroalCounter implements Counter {
 
     @Override
     public long getCount() {
+        if (statement != null) {
+            switch (metric) {
+                case "executionCount":
+                    return statement.getExecutionCount();
+                case "rowCount":
+                    return statement.getRowCount();
+                default:
+                    throw new IllegalArgumentException("Unknown statement metric");
+            }
+        }
         AgroalDataSourceMetrics metrics = getDataSource().getMetrics();
         switch (metric) {
             case "acquireCount":
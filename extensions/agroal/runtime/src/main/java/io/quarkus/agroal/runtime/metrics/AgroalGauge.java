@@ -13,6 +13,7 @@ public class AgroalGauge implements Gauge<Long> {
     private String dataSourceName;
     private volatile AgroalDataSource dataSource;
     private String metric;
+    private StatementStatistics statement;
 
     public AgroalGauge() {
 
@@ -28,6 +29,16 @@ public class AgroalGauge implements Gauge<Long> {
         this.metric = metricName;
     }
 
+    /**
+     * @param dataSourceName Which datasource executed the statement
+     * @param metricName Name of the method from StatementStatistics that should be called to retrieve the particular value.
+     * @param statement The statistics of the statement
+     */
+    public AgroalGauge(String dataSourceName, String metricName, StatementStatistics statement) {
+        this(dataSourceName, metricName);
+        this.statement = statement;
+    }
+
     public String getDataSourceName() {
         return dataSourceName;
     }
@@ -65,6 +76,16 @@ public class AgroalGauge implements Gauge<Long> {
 
     @Override
     public Long getValue() {
+        if (statement != null) {
+            switch (metric) {
+                case "executionTimeTotal":
+                    return statement.getExecutionTimeTotal().toMillis();
+                case "executionTimeMax":
+                    return statement.getExecutionTimeMax().toMillis();
+                default:
+                    throw new IllegalArgumentException("Unknown statement metric");
+            }
+        }
         AgroalDataSourceMetrics metrics = getDataSource().getMetrics();
         switch (metric) {
             case "activeCount":
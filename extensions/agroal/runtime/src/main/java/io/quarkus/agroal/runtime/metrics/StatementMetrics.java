@@ -0,0 +1,102 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.jboss.logging.Logger;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Keeps the {@link StatementStatistics} of the SQL statements executed on a datasource and registers them as vendor
+ * metrics tagged with the datasource and the SQL.
+ * <p>
+ * The statistics are registered the first time a statement is executed, as the statements are not known at build time.
+ * The number of tracked statements is bounded so that applications generating their SQL dynamically don't flood the
+ * registry.
+ */
+public class StatementMetrics {
+
+    private static final Logger log = Logger.getLogger(StatementMetrics.class);
+
+    static final int MAX_TRACKED_STATEMENTS = 500;
+
+    private static final Metadata EXECUTION_COUNT_METADATA = Metadata.builder()
+            .withName("agroal.statement.execution.count")
+            .withDescription("Number of times the statement has been executed.")
+            .withType(MetricType.COUNTER)
+            .build();
+    private static final Metadata EXECUTION_TIME_TOTAL_METADATA = Metadata.builder()
+            .withName("agroal.statement.execution.time.total")
+            .withDescription("Total time spent executing the statement.")
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.MILLISECONDS)
+            .build();
+    private static final Metadata EXECUTION_TIME_MAX_METADATA = Metadata.builder()
+            .withName("agroal.statement.execution.time.max")
+            .withDescription("Maximum time spent executing the statement.")
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.MILLISECONDS)
+            .build();
+    private static final Metadata ROW_COUNT_METADATA = Metadata.builder()
+            .withName("agroal.statement.row.count")
+            .withDescription("Number of rows updated by the statement or read from its result sets.")
+            .withType(MetricType.COUNTER)
+            .build();
+
+    private final String dataSourceName;
+    private final Tag dataSourceTag;
+    private final ConcurrentMap<String, StatementStatistics> statistics = new ConcurrentHashMap<>();
+    private volatile boolean limitReached;
+
+    public StatementMetrics(String dataSourceName) {
+        this.dataSourceName = dataSourceName;
+        this.dataSourceTag = new Tag("datasource", DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName);
+    }
+
+    /**
+     * @return the statistics of the given SQL, or {@code null} if too many statements are already tracked
+     */
+    public StatementStatistics get(String sql) {
+        StatementStatistics statementStatistics = statistics.get(sql);
+        if (statementStatistics != null) {
+            return statementStatistics;
+        }
+        if (statistics.size() >= MAX_TRACKED_STATEMENTS) {
+            if (!limitReached) {
+                limitReached = true;
+                log.warnv("More than {0} distinct statements executed on datasource {1}, the metrics of the new "
+                        + "statements will not be recorded", MAX_TRACKED_STATEMENTS, dataSourceName);
+            }
+            return null;
+        }
+        return statistics.computeIfAbsent(sql, this::register);
+    }
+
+    private StatementStatistics register(String sql) {
+        StatementStatistics statementStatistics = new StatementStatistics(sql);
+        Tag[] tags = new Tag[] { dataSourceTag, new Tag("sql", sql) };
+        register(EXECUTION_COUNT_METADATA, new AgroalCounter(dataSourceName, "executionCount", statementStatistics),
+                tags);
+        register(EXECUTION_TIME_TOTAL_METADATA,
+                new AgroalGauge(dataSourceName, "executionTimeTotal", statementStatistics), tags);
+        register(EXECUTION_TIME_MAX_METADATA, new AgroalGauge(dataSourceName, "executionTimeMax", statementStatistics),
+                tags);
+        register(ROW_COUNT_METADATA, new AgroalCounter(dataSourceName, "rowCount", statementStatistics), tags);
+        return statementStatistics;
+    }
+
+    private static void register(Metadata metadata, Metric metric, Tag[] tags) {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        registry.remove(new MetricID(metadata.getName(), tags));
+        registry.register(metadata, metric, tags);
+    }
+}
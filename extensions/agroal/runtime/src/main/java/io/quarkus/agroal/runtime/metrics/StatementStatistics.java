@@ -0,0 +1,64 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The execution statistics of a single SQL statement of a datasource.
+ */
+public final class StatementStatistics {
+
+    private final String sql;
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder executionTimeTotal = new LongAdder();
+    private final AtomicLong executionTimeMax = new AtomicLong();
+    private final LongAdder rowCount = new LongAdder();
+
+    StatementStatistics(String sql) {
+        this.sql = sql;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @param nanos The execution time of the statement
+     * @param rows The number of rows updated by the statement
+     */
+    public void recordExecution(long nanos, long rows) {
+        executionCount.increment();
+        executionTimeTotal.add(nanos);
+        long max = executionTimeMax.get();
+        while (nanos > max && !executionTimeMax.compareAndSet(max, nanos)) {
+            max = executionTimeMax.get();
+        }
+        if (rows > 0) {
+            rowCount.add(rows);
+        }
+    }
+
+    /**
+     * Records a row read from the result set of the statement.
+     */
+    public void recordRow() {
+        rowCount.increment();
+    }
+
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    public Duration getExecutionTimeTotal() {
+        return Duration.ofNanos(executionTimeTotal.sum());
+    }
+
+    public Duration getExecutionTimeMax() {
+        return Duration.ofNanos(executionTimeMax.get());
+    }
+
+    public long getRowCount() {
+        return rowCount.sum();
+    }
+}
@@ -5,10 +5,15 @@ import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALID
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_FACTORY_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_PARAMETER_POSITIONS_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETABLE_FUTURE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.LOCK_TIMEOUT_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.RETURN_TYPE_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,9 +30,16 @@ import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptorBinding;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptorBinding;
 import io.quarkus.cache.runtime.CacheResultInterceptorBinding;
+import io.quarkus.cache.runtime.CacheResultInterceptorBinding.ReturnType;
 
 public class CacheAnnotationsTransformer implements AnnotationsTransformer {
 
+    private final CompositeCacheKeyGenerator compositeCacheKeyGenerator;
+
+    public CacheAnnotationsTransformer(CompositeCacheKeyGenerator compositeCacheKeyGenerator) {
+        this.compositeCacheKeyGenerator = compositeCacheKeyGenerator;
+    }
+
     @Override
     public boolean appliesTo(Kind kind) {
         return Kind.METHOD == kind;
@@ -69,6 +81,7 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
         List<AnnotationValue> parameters = new ArrayList<>();
         parameters.add(getCacheName(annotation));
         findCacheKeyParameters(method).ifPresent(parameters::add);
+        findCacheKeyFactory(method, annotation).ifPresent(parameters::add);
         return createBinding(CacheInvalidateInterceptorBinding.class, target, toArray(parameters));
     }
 
@@ -77,7 +90,9 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
         List<AnnotationValue> parameters = new ArrayList<>();
         parameters.add(getCacheName(annotation));
         findCacheKeyParameters(method).ifPresent(parameters::add);
+        findCacheKeyFactory(method, annotation).ifPresent(parameters::add);
         findLockTimeout(annotation).ifPresent(parameters::add);
+        findReturnType(method).ifPresent(parameters::add);
         return createBinding(CacheResultInterceptorBinding.class, target, toArray(parameters));
     }
 
@@ -91,10 +106,8 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
 
     private Optional<AnnotationValue> findCacheKeyParameters(MethodInfo method) {
         List<AnnotationValue> parameters = new ArrayList<>();
-        for (AnnotationInstance annotation : method.annotations()) {
-            if (annotation.target().kind() == Kind.METHOD_PARAMETER && CACHE_KEY.equals(annotation.name())) {
-                parameters.add(AnnotationValue.createShortValue("", annotation.target().asMethodParameter().position()));
-            }
+        for (Short position : getCacheKeyParameterPositions(method)) {
+            parameters.add(AnnotationValue.createShortValue("", position));
         }
         if (parameters.isEmpty()) {
             return Optional.empty();
@@ -102,10 +115,43 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
         return Optional.of(AnnotationValue.createArrayValue(CACHE_KEY_PARAMETER_POSITIONS_PARAM, toArray(parameters)));
     }
 
+    private Optional<AnnotationValue> findCacheKeyFactory(MethodInfo method, AnnotationInstance annotation) {
+        String factoryClassName = compositeCacheKeyGenerator.getFactoryClassName(getCacheName(annotation).asString(),
+                method);
+        if (factoryClassName == null) {
+            return Optional.empty();
+        }
+        return Optional.of(AnnotationValue.createStringValue(CACHE_KEY_FACTORY_PARAM, factoryClassName.replace('/', '.')));
+    }
+
+    static List<Short> getCacheKeyParameterPositions(MethodInfo method) {
+        List<Short> positions = new ArrayList<>();
+        for (AnnotationInstance annotation : method.annotations()) {
+            if (annotation.target().kind() == Kind.METHOD_PARAMETER && CACHE_KEY.equals(annotation.name())) {
+                positions.add(annotation.target().asMethodParameter().position());
+            }
+        }
+        return positions;
+    }
+
     private Optional<AnnotationValue> findLockTimeout(AnnotationInstance annotation) {
         return Optional.ofNullable(annotation.value(LOCK_TIMEOUT_PARAM));
     }
 
+    private Optional<AnnotationValue> findReturnType(MethodInfo method) {
+        DotName returnTypeName = method.returnType().name();
+        ReturnType returnType;
+        if (COMPLETION_STAGE.equals(returnTypeName) || COMPLETABLE_FUTURE.equals(returnTypeName)) {
+            returnType = ReturnType.COMPLETION_STAGE;
+        } else if (UNI.equals(returnTypeName)) {
+            returnType = ReturnType.UNI;
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(AnnotationValue.createEnumValue(RETURN_TYPE_PARAM,
+                DotName.createSimple(ReturnType.class.getName()), returnType.name()));
+    }
+
     private AnnotationValue[] toArray(List<AnnotationValue> parameters) {
         return parameters.toArray(new AnnotationValue[0]);
     }
@@ -54,6 +54,24 @@ public class CacheConfig {
             @ConfigItem
             OptionalLong maximumSize;
 
+            /**
+             * Maximum weight of the entries the cache may contain, as computed by the weigher of the cache. This property
+             * bounds the cache by the size of its values rather than by their number, it cannot be combined with the
+             * {@code maximum-size} property. Just like the maximum size, the cache may evict an entry before this limit is
+             * exceeded or temporarily exceed the threshold while evicting.
+             */
+            @ConfigItem
+            OptionalLong maximumWeight;
+
+            /**
+             * Fully qualified name of the {@code io.quarkus.cache.CacheWeigher} implementation used to compute the weight of
+             * the entries when {@code maximum-weight} is set. By default, byte arrays, byte buffers and character sequences are
+             * weighed by their approximate size in bytes, collections and maps by their number of elements and any other value
+             * has a weight of 1. Off-heap values are always weighed by their size in bytes.
+             */
+            @ConfigItem
+            Optional<String> weigher;
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -67,6 +85,33 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be eligible for an automatic refresh once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The next read that finds the entry stale
+             * re-invokes the cached method as part of that call, while concurrent callers keep receiving the old value until
+             * the new one is available. If the refresh fails, the old value is kept.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Whether statistics such as the hit rate, the miss count or the eviction count should be recorded by the cache.
+             * When the SmallRye Metrics extension is present, these statistics are also published as vendor metrics tagged
+             * with the cache name. Recording statistics has a small cost on each cache operation.
+             */
+            @ConfigItem
+            boolean recordStats;
+
+            /**
+             * Whether the cached values should be stored outside of the Java heap, in native memory. Byte arrays are stored as
+             * is and any other value is serialized, so it must implement {@code java.io.Serializable}. Each read returns a new
+             * copy of the cached value. Off-heap storage reduces the garbage collection pressure of large caches. The native
+             * memory is freed when an entry is removed, it is not limited by {@code -XX:MaxDirectMemorySize} and is only
+             * bounded by {@code maximum-weight}.
+             */
+            @ConfigItem
+            boolean offHeap;
         }
     }
 }
@@ -2,6 +2,8 @@ package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
 
@@ -24,10 +26,18 @@ public class CacheDeploymentConstants {
     public static final List<DotName> API_METHODS_ANNOTATIONS_LISTS = Arrays.asList(
             CACHE_INVALIDATE_LIST, CACHE_INVALIDATE_ALL_LIST);
 
+    // Asynchronous return types.
+    public static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
+    public static final DotName COMPLETABLE_FUTURE = DotName.createSimple(CompletableFuture.class.getName());
+    // Mutiny is an optional dependency of the cache extension so the class can't be referenced directly.
+    public static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
     public static final String CACHE_KEY_PARAMETER_POSITIONS_PARAM = "cacheKeyParameterPositions";
+    public static final String CACHE_KEY_FACTORY_PARAM = "cacheKeyFactory";
     public static final String LOCK_TIMEOUT_PARAM = "lockTimeout";
+    public static final String RETURN_TYPE_PARAM = "returnType";
 
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
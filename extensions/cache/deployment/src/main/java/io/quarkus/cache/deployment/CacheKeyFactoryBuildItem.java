@@ -0,0 +1,19 @@
+package io.quarkus.cache.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds the name of a {@link io.quarkus.cache.runtime.CacheKeyFactory CacheKeyFactory} class generated at build time.
+ */
+public final class CacheKeyFactoryBuildItem extends MultiBuildItem {
+
+    private final String className;
+
+    public CacheKeyFactoryBuildItem(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+}
@@ -14,6 +14,10 @@ import java.util.Set;
 
 import javax.enterprise.inject.spi.DeploymentException;
 
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
@@ -27,15 +31,27 @@ import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildIt
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension.Key;
+import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
+import io.quarkus.cache.runtime.CacheKeyFactoryRecorder;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.metrics.CacheCounter;
+import io.quarkus.cache.runtime.metrics.CacheGauge;
+import io.quarkus.cache.runtime.metrics.MetricsStatsCounter;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 
 class CacheProcessor {
 
@@ -45,8 +61,16 @@ class CacheProcessor {
     }
 
     @BuildStep
-    AnnotationsTransformerBuildItem annotationsTransformer() {
-        return new AnnotationsTransformerBuildItem(new CacheAnnotationsTransformer());
+    AnnotationsTransformerBuildItem annotationsTransformer(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses, BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+            BuildProducer<CacheKeyFactoryBuildItem> cacheKeyFactories) {
+        CompositeCacheKeyGenerator compositeCacheKeyGenerator = new CompositeCacheKeyGenerator(combinedIndex.getIndex());
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        for (String factoryClassName : compositeCacheKeyGenerator.generate(classOutput)) {
+            reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, factoryClassName));
+            cacheKeyFactories.produce(new CacheKeyFactoryBuildItem(factoryClassName));
+        }
+        return new AnnotationsTransformerBuildItem(new CacheAnnotationsTransformer(compositeCacheKeyGenerator));
     }
 
     @BuildStep
@@ -76,11 +100,18 @@ class CacheProcessor {
     @BuildStep
     @Record(STATIC_INIT)
     void recordCachesBuild(CombinedIndexBuildItem combinedIndex, BeanContainerBuildItem beanContainer, CacheConfig config,
+            Capabilities capabilities, BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
             CaffeineCacheBuildRecorder caffeineRecorder) {
         Set<String> cacheNames = getCacheNames(combinedIndex.getIndex());
         switch (config.type) {
             case CacheDeploymentConstants.CAFFEINE_CACHE_TYPE:
-                Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config);
+                Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config,
+                        capabilities.isCapabilityPresent(Capabilities.METRICS));
+                for (CaffeineCacheInfo cacheInfo : cacheInfos) {
+                    if (cacheInfo.weigher != null) {
+                        reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, cacheInfo.weigher));
+                    }
+                }
                 caffeineRecorder.buildCaches(beanContainer.getValue(), cacheInfos);
                 break;
             default:
@@ -88,6 +119,109 @@ class CacheProcessor {
         }
     }
 
+    @BuildStep
+    @Record(STATIC_INIT)
+    void recordCacheKeyFactories(BeanContainerBuildItem beanContainer, List<CacheKeyFactoryBuildItem> cacheKeyFactories,
+            CacheKeyFactoryRecorder recorder) {
+        Set<String> factoryClassNames = new HashSet<>();
+        for (CacheKeyFactoryBuildItem cacheKeyFactory : cacheKeyFactories) {
+            factoryClassNames.add(cacheKeyFactory.getClassName());
+        }
+        recorder.registerCacheKeyFactories(beanContainer.getValue(), factoryClassNames);
+    }
+
+    @BuildStep
+    void registerMetrics(CombinedIndexBuildItem combinedIndex, CacheConfig config, BuildProducer<MetricBuildItem> metrics) {
+        Metadata hitCountMetadata = Metadata.builder()
+                .withName("cache.hit.count")
+                .withDescription("Number of times a cache lookup returned a cached value.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata missCountMetadata = Metadata.builder()
+                .withName("cache.miss.count")
+                .withDescription("Number of times a cache lookup returned a newly loaded value.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata hitRateMetadata = Metadata.builder()
+                .withName("cache.hit.rate")
+                .withDescription("Ratio of cache lookups which returned a cached value.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata evictionCountMetadata = Metadata.builder()
+                .withName("cache.eviction.count")
+                .withDescription("Number of entries evicted from the cache.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata estimatedSizeMetadata = Metadata.builder()
+                .withName("cache.estimated.size")
+                .withDescription("Approximate number of entries in the cache.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata loadSuccessCountMetadata = Metadata.builder()
+                .withName("cache.load.success.count")
+                .withDescription("Number of times a new value was successfully loaded into the cache.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata loadFailureCountMetadata = Metadata.builder()
+                .withName("cache.load.failure.count")
+                .withDescription("Number of times the loading of a new value into the cache failed.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata loadTimeMetadata = Metadata.builder()
+                .withName(MetricsStatsCounter.LOAD_TIME_METRIC_NAME)
+                .withDescription("Time spent loading new values into the cache.")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withType(MetricType.TIMER)
+                .build();
+
+        for (String cacheName : getCacheNames(combinedIndex.getIndex())) {
+            CaffeineNamespaceConfig namespaceConfig = config.caffeine.namespace.get(cacheName);
+            // expose metrics for this cache only if it records statistics
+            boolean metricsEnabledForThisCache = namespaceConfig != null && namespaceConfig.recordStats;
+            Tag tag = new Tag(MetricsStatsCounter.CACHE_TAG_NAME, cacheName);
+            String configRootName = "cache";
+            metrics.produce(new MetricBuildItem(hitCountMetadata,
+                    new CacheCounter(cacheName, "hitCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(missCountMetadata,
+                    new CacheCounter(cacheName, "missCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(hitRateMetadata,
+                    new CacheGauge(cacheName, "hitRate"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(evictionCountMetadata,
+                    new CacheCounter(cacheName, "evictionCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(estimatedSizeMetadata,
+                    new CacheGauge(cacheName, "estimatedSize"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(loadSuccessCountMetadata,
+                    new CacheCounter(cacheName, "loadSuccessCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(loadFailureCountMetadata,
+                    new CacheCounter(cacheName, "loadFailureCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(loadTimeMetadata,
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+        }
+    }
+
     private Set<String> getCacheNames(IndexView index) {
         Set<String> cacheNames = new HashSet<>();
         for (DotName cacheAnnotation : API_METHODS_ANNOTATIONS) {
@@ -3,12 +3,14 @@ package io.quarkus.cache.deployment;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.enterprise.inject.spi.DeploymentException;
+
 import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 
 public class CaffeineCacheInfoBuilder {
 
-    public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+    public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig, boolean metricsPresent) {
         return cacheNames.stream().map(cacheName -> {
             CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
             cacheInfo.name = cacheName;
@@ -17,8 +19,23 @@ public class CaffeineCacheInfoBuilder {
             if (namespaceConfig != null) {
                 namespaceConfig.initialCapacity.ifPresent(capacity -> cacheInfo.initialCapacity = capacity);
                 namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
+                namespaceConfig.maximumWeight.ifPresent(weight -> cacheInfo.maximumWeight = weight);
+                namespaceConfig.weigher.ifPresent(weigher -> cacheInfo.weigher = weigher);
                 namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                 namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                cacheInfo.recordStats = namespaceConfig.recordStats;
+                cacheInfo.offHeap = namespaceConfig.offHeap;
+                cacheInfo.metricsEnabled = namespaceConfig.recordStats && metricsPresent;
+
+                if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+                    throw new DeploymentException(
+                            "The maximum-size and maximum-weight properties cannot be both set for the cache: " + cacheName);
+                }
+                if (cacheInfo.weigher != null && cacheInfo.maximumWeight == null) {
+                    throw new DeploymentException(
+                            "The weigher property requires the maximum-weight property to be set for the cache: " + cacheName);
+                }
             }
 
             return cacheInfo;
@@ -0,0 +1,293 @@
+package io.quarkus.cache.deployment;
+
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.gizmo.MethodDescriptor.ofConstructor;
+import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkus.cache.runtime.CacheKeyFactory;
+import io.quarkus.cache.runtime.CompositeCacheKeySupport;
+import io.quarkus.deployment.util.HashUtil;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates a dedicated immutable key class for each cache used by methods whose cache key is composed of several elements.
+ * The generated key classes have one final field per key element (primitive elements are never boxed) and a precomputed
+ * hash code. A {@link CacheKeyFactory} is also generated for each combination of cache and key parameters positions.
+ * <p>
+ * The same key class has to be used by all methods sharing a cache, otherwise a {@link io.quarkus.cache.CacheInvalidate
+ * CacheInvalidate} method could not remove an entry stored by a {@link io.quarkus.cache.CacheResult CacheResult} method. If
+ * the key elements types of the methods sharing a cache don't match, no key class is generated for that cache and the
+ * runtime composite key is used instead.
+ */
+public class CompositeCacheKeyGenerator {
+
+    private static final String GENERATED_PACKAGE = "io/quarkus/cache/runtime/generated/";
+    private static final String KEY_CLASS_PREFIX = "CompositeCacheKey_";
+    private static final String FACTORY_SUFFIX = "_Factory";
+    private static final String HASH_FIELD = "hash";
+    private static final String ELEMENT_FIELD_PREFIX = "element";
+    private static final Type OBJECT_TYPE = Type.create(DotName.createSimple(Object.class.getName()), Type.Kind.CLASS);
+
+    // Cache name -> key elements types. A null value means the methods sharing the cache use different key elements types.
+    private final Map<String, List<Type>> keyElementsTypes = new LinkedHashMap<>();
+
+    // Cache name -> key parameters positions -> factory class name.
+    private final Map<String, Map<List<Short>, String>> factories = new HashMap<>();
+
+    public CompositeCacheKeyGenerator(IndexView index) {
+        Map<String, Set<List<Short>>> positionsByCacheName = new HashMap<>();
+        for (AnnotationInstance annotation : findCacheAnnotations(index)) {
+            MethodInfo method = annotation.target().asMethod();
+            List<Short> positions = getKeyElementsPositions(method);
+            if (positions.size() < 2) {
+                // Default and simple keys don't need any generated class.
+                continue;
+            }
+            String cacheName = annotation.value(CACHE_NAME_PARAM).asString();
+            List<Type> types = new ArrayList<>();
+            for (Short position : positions) {
+                types.add(getKeyElementType(method.parameters().get(position)));
+            }
+            if (keyElementsTypes.containsKey(cacheName)) {
+                List<Type> existingTypes = keyElementsTypes.get(cacheName);
+                if (existingTypes != null && !existingTypes.equals(types)) {
+                    keyElementsTypes.put(cacheName, null);
+                }
+            } else {
+                keyElementsTypes.put(cacheName, types);
+            }
+            positionsByCacheName.computeIfAbsent(cacheName, k -> new HashSet<>()).add(positions);
+        }
+        for (Entry<String, List<Type>> entry : keyElementsTypes.entrySet()) {
+            if (entry.getValue() != null) {
+                String keyClassName = getKeyClassName(entry.getKey());
+                Map<List<Short>, String> cacheFactories = new HashMap<>();
+                for (List<Short> positions : positionsByCacheName.get(entry.getKey())) {
+                    StringBuilder factoryClassName = new StringBuilder(keyClassName).append(FACTORY_SUFFIX);
+                    for (Short position : positions) {
+                        factoryClassName.append('_').append(position);
+                    }
+                    cacheFactories.put(positions, factoryClassName.toString());
+                }
+                factories.put(entry.getKey(), cacheFactories);
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the generated {@link CacheKeyFactory} class that should be used to build the cache key of the given
+     * method, or {@code null} if the key of that method doesn't rely on a generated class.
+     */
+    public String getFactoryClassName(String cacheName, MethodInfo method) {
+        Map<List<Short>, String> cacheFactories = factories.get(cacheName);
+        if (cacheFactories == null) {
+            return null;
+        }
+        return cacheFactories.get(getKeyElementsPositions(method));
+    }
+
+    /**
+     * Generates the key and factory classes.
+     *
+     * @return the names of the generated factory classes
+     */
+    public Set<String> generate(ClassOutput classOutput) {
+        Set<String> factoryClassNames = new HashSet<>();
+        for (Entry<String, Map<List<Short>, String>> cacheFactories : factories.entrySet()) {
+            List<Type> types = keyElementsTypes.get(cacheFactories.getKey());
+            String keyClassName = getKeyClassName(cacheFactories.getKey());
+            generateKeyClass(classOutput, keyClassName, types);
+            for (Entry<List<Short>, String> factory : cacheFactories.getValue().entrySet()) {
+                generateFactoryClass(classOutput, factory.getValue(), keyClassName, types, factory.getKey());
+                factoryClassNames.add(factory.getValue().replace('/', '.'));
+            }
+        }
+        return factoryClassNames;
+    }
+
+    /**
+     * Returns the positions of the method parameters which are part of the cache key: all parameters annotated with
+     * {@link io.quarkus.cache.CacheKey CacheKey} or all of the method parameters if none of them is annotated.
+     */
+    static List<Short> getKeyElementsPositions(MethodInfo method) {
+        List<Short> positions = CacheAnnotationsTransformer.getCacheKeyParameterPositions(method);
+        if (positions.isEmpty()) {
+            for (short i = 0; i < method.parameters().size(); i++) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+
+    private static List<AnnotationInstance> findCacheAnnotations(IndexView index) {
+        List<AnnotationInstance> annotations = new ArrayList<>();
+        for (AnnotationInstance annotation : index.getAnnotations(CACHE_RESULT)) {
+            if (annotation.target().kind() == Kind.METHOD) {
+                annotations.add(annotation);
+            }
+        }
+        for (AnnotationInstance annotation : index.getAnnotations(CACHE_INVALIDATE)) {
+            if (annotation.target().kind() == Kind.METHOD) {
+                annotations.add(annotation);
+            }
+        }
+        for (AnnotationInstance list : index.getAnnotations(CACHE_INVALIDATE_LIST)) {
+            if (list.target().kind() == Kind.METHOD) {
+                for (AnnotationInstance annotation : list.value("value").asNestedArray()) {
+                    // The nested annotations don't have any target so a new instance is created with the list target.
+                    annotations.add(AnnotationInstance.create(annotation.name(), list.target(), annotation.values()));
+                }
+            }
+        }
+        return annotations;
+    }
+
+    private static Type getKeyElementType(Type parameterType) {
+        // Reference types are stored as Object because the parameter type may not be accessible from the generated class.
+        return parameterType.kind() == Type.Kind.PRIMITIVE ? parameterType : OBJECT_TYPE;
+    }
+
+    private static String getKeyClassName(String cacheName) {
+        return GENERATED_PACKAGE + KEY_CLASS_PREFIX + HashUtil.sha1(cacheName);
+    }
+
+    private static void generateKeyClass(ClassOutput classOutput, String keyClassName, List<Type> types) {
+        try (ClassCreator keyClass = ClassCreator.builder().classOutput(classOutput).className(keyClassName).setFinal(true)
+                .build()) {
+
+            FieldDescriptor hashField = keyClass.getFieldCreator(HASH_FIELD, int.class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+            List<FieldDescriptor> elementFields = new ArrayList<>();
+            for (int i = 0; i < types.size(); i++) {
+                elementFields.add(keyClass.getFieldCreator(ELEMENT_FIELD_PREFIX + i, types.get(i).name().toString())
+                        .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor());
+            }
+
+            // The constructor stores the key elements and computes the hash code once and for all.
+            MethodCreator constructor = keyClass.getMethodCreator("<init>", void.class.getName(), typeNames(types));
+            constructor.invokeSpecialMethod(ofConstructor(Object.class), constructor.getThis());
+            ResultHandle hash = constructor.load(CompositeCacheKeySupport.INITIAL_HASH);
+            for (int i = 0; i < types.size(); i++) {
+                ResultHandle element = constructor.getMethodParam(i);
+                constructor.writeInstanceField(elementFields.get(i), constructor.getThis(), element);
+                hash = constructor.invokeStaticMethod(ofMethod(CompositeCacheKeySupport.class, "hash", int.class.getName(),
+                        int.class.getName(), supportParameterType(types.get(i))), hash, element);
+            }
+            constructor.writeInstanceField(hashField, constructor.getThis(), hash);
+            constructor.returnValue(null);
+
+            MethodCreator hashCode = keyClass.getMethodCreator("hashCode", int.class);
+            hashCode.returnValue(hashCode.readInstanceField(hashField, hashCode.getThis()));
+
+            MethodCreator equals = keyClass.getMethodCreator("equals", boolean.class, Object.class);
+            ResultHandle other = equals.getMethodParam(0);
+            BranchResult isInstance = equals.ifNonZero(equals.invokeVirtualMethod(
+                    ofMethod(Class.class, "isInstance", boolean.class, Object.class), equals.loadClass(keyClassName), other));
+            isInstance.falseBranch().returnValue(isInstance.falseBranch().load(false));
+            BytecodeCreator matching = isInstance.trueBranch();
+            ResultHandle otherKey = matching.checkCast(other, keyClassName);
+            // The hash codes are compared first since it is the cheapest way to detect different keys.
+            matching = ifEqual(matching, int.class.getName(), matching.readInstanceField(hashField, matching.getThis()),
+                    matching.readInstanceField(hashField, otherKey));
+            for (int i = 0; i < types.size(); i++) {
+                matching = ifEqual(matching, supportParameterType(types.get(i)),
+                        matching.readInstanceField(elementFields.get(i), matching.getThis()),
+                        matching.readInstanceField(elementFields.get(i), otherKey));
+            }
+            matching.returnValue(matching.load(true));
+        }
+    }
+
+    private static BytecodeCreator ifEqual(BytecodeCreator bytecode, String type, ResultHandle value, ResultHandle other) {
+        BranchResult equal = bytecode.ifNonZero(bytecode.invokeStaticMethod(
+                ofMethod(CompositeCacheKeySupport.class, "equal", boolean.class.getName(), type, type), value, other));
+        equal.falseBranch().returnValue(equal.falseBranch().load(false));
+        return equal.trueBranch();
+    }
+
+    private static void generateFactoryClass(ClassOutput classOutput, String factoryClassName, String keyClassName,
+            List<Type> types, List<Short> positions) {
+        try (ClassCreator factoryClass = ClassCreator.builder().classOutput(classOutput).className(factoryClassName)
+                .interfaces(CacheKeyFactory.class).setFinal(true).build()) {
+
+            MethodCreator create = factoryClass.getMethodCreator("create", Object.class, Object[].class);
+            ResultHandle methodParameterValues = create.getMethodParam(0);
+            ResultHandle[] elements = new ResultHandle[types.size()];
+            for (int i = 0; i < types.size(); i++) {
+                ResultHandle element = create.readArrayValue(methodParameterValues, positions.get(i));
+                Type type = types.get(i);
+                if (type.kind() == Type.Kind.PRIMITIVE) {
+                    // The method parameters values are boxed by the interceptor chain, they are unboxed once here.
+                    String boxedType = boxedType(type.asPrimitiveType());
+                    element = create.invokeVirtualMethod(ofMethod(boxedType, type.name().toString() + "Value",
+                            type.name().toString()), create.checkCast(element, boxedType));
+                }
+                elements[i] = element;
+            }
+            create.returnValue(create.newInstance(ofConstructor(keyClassName, (Object[]) typeNames(types)), elements));
+        }
+    }
+
+    private static String[] typeNames(List<Type> types) {
+        String[] names = new String[types.size()];
+        for (int i = 0; i < types.size(); i++) {
+            names[i] = types.get(i).name().toString();
+        }
+        return names;
+    }
+
+    private static String supportParameterType(Type type) {
+        return type.kind() == Type.Kind.PRIMITIVE ? type.name().toString() : Object.class.getName();
+    }
+
+    private static String boxedType(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return Boolean.class.getName();
+            case BYTE:
+                return Byte.class.getName();
+            case CHAR:
+                return Character.class.getName();
+            case SHORT:
+                return Short.class.getName();
+            case INT:
+                return Integer.class.getName();
+            case LONG:
+                return Long.class.getName();
+            case FLOAT:
+                return Float.class.getName();
+            case DOUBLE:
+                return Double.class.getName();
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type: " + type);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the cache statistics published in the SmallRye Metrics vendor registry.
+ */
+public class CacheMetricsTest {
+
+    private static final String STATS_CACHE_NAME = "stats-cache";
+    private static final String NO_STATS_CACHE_NAME = "no-stats-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class).addAsResource(
+                    new StringAsset("quarkus.cache.caffeine.\"" + STATS_CACHE_NAME + "\".record-stats=true"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testStatsMetrics() {
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("bar");
+
+        assertEquals(2L, getCounter("cache.hit.count").getCount());
+        assertEquals(2L, getCounter("cache.miss.count").getCount());
+        assertEquals(2L, getCounter("cache.load.success.count").getCount());
+        assertEquals(0L, getCounter("cache.load.failure.count").getCount());
+        assertEquals(0L, getCounter("cache.eviction.count").getCount());
+        assertEquals(0.5D, getGauge("cache.hit.rate").getValue());
+        assertEquals(2L, getGauge("cache.estimated.size").getValue());
+        Timer loadTime = registry.getTimers().get(new MetricID("cache.load.time", new Tag("cache", STATS_CACHE_NAME)));
+        assertNotNull(loadTime);
+        assertEquals(2L, loadTime.getCount());
+    }
+
+    @Test
+    public void testNoStatsNoMetrics() {
+        assertNull(registry.getCounters().get(new MetricID("cache.hit.count", new Tag("cache", NO_STATS_CACHE_NAME))));
+    }
+
+    private Counter getCounter(String name) {
+        Counter counter = registry.getCounters().get(new MetricID(name, new Tag("cache", STATS_CACHE_NAME)));
+        assertNotNull(counter, "Cache metrics should be registered eagerly");
+        return counter;
+    }
+
+    private Gauge<?> getGauge(String name) {
+        Gauge<?> gauge = registry.getGauges().get(new MetricID(name, new Tag("cache", STATS_CACHE_NAME)));
+        assertNotNull(gauge, "Cache metrics should be registered eagerly");
+        return gauge;
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = STATS_CACHE_NAME)
+        public String cachedMethod(String key) {
+            return new String(key);
+        }
+
+        @CacheResult(cacheName = NO_STATS_CACHE_NAME)
+        public String otherCachedMethod(String key) {
+            return new String(key);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the refresh of the cache entries once the refresh-after-write delay has elapsed.
+ */
+public class CacheRefreshAfterWriteTest {
+
+    private static final String KEY = "foo";
+    private static final long REFRESH_DELAY_MILLIS = 200L;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class).addAsResource(
+                    new StringAsset("quarkus.cache.caffeine.\"refreshed-cache\".refresh-after-write=PT0.2S\n"
+                            + "quarkus.cache.caffeine.\"async-refreshed-cache\".refresh-after-write=PT0.2S"),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testStaleValueReturnedWhileRefreshing() throws Exception {
+        assertEquals("foo-1", cachedService.cachedMethod(KEY));
+        assertEquals("foo-1", cachedService.cachedMethod(KEY));
+
+        Thread.sleep(REFRESH_DELAY_MILLIS * 2);
+
+        // The first call after the refresh delay invokes the method again, concurrent calls keep receiving the old value.
+        cachedService.blockRefresh();
+        CompletableFuture<String> refreshingCall = CompletableFuture.supplyAsync(() -> cachedService.cachedMethod(KEY));
+        assertTrue(cachedService.awaitRefreshStarted());
+        assertEquals("foo-1", cachedService.cachedMethod(KEY));
+        cachedService.unblockRefresh();
+
+        assertEquals("foo-2", refreshingCall.get(5, TimeUnit.SECONDS));
+        assertEquals("foo-2", cachedService.cachedMethod(KEY));
+        assertEquals(2, cachedService.getInvocations());
+    }
+
+    @Test
+    public void testAsyncRefresh() throws Exception {
+        assertEquals("foo-1", cachedService.asyncCachedMethod(KEY).toCompletableFuture().get());
+
+        Thread.sleep(REFRESH_DELAY_MILLIS * 2);
+
+        // The refresh is started from the calling thread, within the interception of the call.
+        assertEquals("foo-1", cachedService.asyncCachedMethod(KEY).toCompletableFuture().get());
+        assertEquals(Thread.currentThread(), cachedService.getLastAsyncInvocationThread());
+        assertEquals("foo-2", cachedService.asyncCachedMethod(KEY).toCompletableFuture().get());
+        assertEquals(2, cachedService.getAsyncInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger asyncInvocations = new AtomicInteger();
+        private volatile CountDownLatch refreshStarted;
+        private volatile CountDownLatch refreshBlocker;
+        private volatile Thread lastAsyncInvocationThread;
+
+        public void blockRefresh() {
+            refreshStarted = new CountDownLatch(1);
+            refreshBlocker = new CountDownLatch(1);
+        }
+
+        public boolean awaitRefreshStarted() throws InterruptedException {
+            return refreshStarted.await(5, TimeUnit.SECONDS);
+        }
+
+        public void unblockRefresh() {
+            refreshBlocker.countDown();
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+
+        public int getAsyncInvocations() {
+            return asyncInvocations.get();
+        }
+
+        public Thread getLastAsyncInvocationThread() {
+            return lastAsyncInvocationThread;
+        }
+
+        @CacheResult(cacheName = "refreshed-cache")
+        public String cachedMethod(String key) {
+            int invocation = invocations.incrementAndGet();
+            if (refreshBlocker != null) {
+                refreshStarted.countDown();
+                try {
+                    refreshBlocker.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return key + "-" + invocation;
+        }
+
+        @CacheResult(cacheName = "async-refreshed-cache")
+        public CompletionStage<String> asyncCachedMethod(String key) {
+            lastAsyncInvocationThread = Thread.currentThread();
+            return CompletableFuture.completedFuture(key + "-" + asyncInvocations.incrementAndGet());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.cache.test.runtime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.CompletableFuture;
@@ -7,6 +8,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -40,18 +42,18 @@ public class CacheResultCompletionStageReturnTypeTest {
         CompletionStage<Object> completionStage1 = cachedService.cachedMethod(KEY_1);
 
         // STEP 2
-        // Action: same call as STEP 1.
-        // Expected effect: method not invoked and result coming from the cache.
-        // Verified by: same object reference between STEPS 1 and 2 results.
+        // Action: same call as STEP 1 while the computation from STEP 1 is still in progress.
+        // Expected effect: method not invoked and result coming from the in-flight computation.
+        // Verified by: invocations counter and same value object reference between STEPS 1 and 2 results.
         CompletionStage<Object> completionStage2 = cachedService.cachedMethod(KEY_1);
-        assertTrue(completionStage1 == completionStage2);
+        assertEquals(1, cachedService.getInvocations());
 
         // STEP 3
         // Action: same call as STEP 2 with a new key.
         // Expected effect: method invoked and result cached.
-        // Verified by: different objects references between STEPS 2 and 3 results.
+        // Verified by: invocations counter and different value objects references between STEPS 2 and 3 results.
         CompletionStage<Object> completionStage3 = cachedService.cachedMethod(KEY_2);
-        assertTrue(completionStage2 != completionStage3);
+        assertEquals(2, cachedService.getInvocations());
 
         // We need all of the futures to complete at this point.
         CompletableFuture.allOf(completionStage1.toCompletableFuture(), completionStage2.toCompletableFuture(),
@@ -66,6 +68,15 @@ public class CacheResultCompletionStageReturnTypeTest {
 
         // Values objects references resulting from STEPS 2 and 3 should be different since a different cache key was used.
         assertTrue(value2 != value3);
+
+        // STEP 4
+        // Action: same call as STEP 1 once the computation is complete.
+        // Expected effect: method not invoked and an already completed result coming from the cache.
+        // Verified by: invocations counter and same value object reference between STEPS 1 and 4 results.
+        CompletionStage<Object> completionStage4 = cachedService.cachedMethod(KEY_1);
+        assertTrue(completionStage4.toCompletableFuture().isDone());
+        assertTrue(value1 == completionStage4.toCompletableFuture().get());
+        assertEquals(2, cachedService.getInvocations());
     }
 
     @ApplicationScoped
@@ -74,8 +85,11 @@ public class CacheResultCompletionStageReturnTypeTest {
         // This is required to make sure the CompletableFuture from the tests are executed concurrently.
         private ExecutorService executorService = Executors.newFixedThreadPool(3);
 
+        private final AtomicInteger invocations = new AtomicInteger();
+
         @CacheResult(cacheName = "test-cache")
         public CompletionStage<Object> cachedMethod(Object key) {
+            invocations.incrementAndGet();
             return CompletableFuture.supplyAsync(() -> {
                 try {
                     // This is another requirement for concurrent CompletableFuture executions.
@@ -86,5 +100,9 @@ public class CacheResultCompletionStageReturnTypeTest {
                 return new Object();
             }, executorService);
         }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
     }
 }
@@ -0,0 +1,97 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class CacheResultUniReturnTypeTest {
+
+    private static final Object KEY_1 = new Object();
+    private static final Object KEY_2 = new Object();
+    private static final Duration TIMEOUT = Duration.ofSeconds(10L);
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testCacheResult() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call without subscription.
+        // Expected effect: method not invoked since the cache is only queried on subscription.
+        // Verified by: invocations counter.
+        Uni<Object> uni1 = cachedService.cachedMethod(KEY_1);
+        Uni<Object> uni2 = cachedService.cachedMethod(KEY_1);
+        assertEquals(0, cachedService.getInvocations());
+
+        // STEP 2
+        // Action: subscription to both Uni from STEP 1.
+        // Expected effect: method invoked once and result cached.
+        // Verified by: invocations counter and same object reference between both results.
+        Object value1 = uni1.await().atMost(TIMEOUT);
+        Object value2 = uni2.await().atMost(TIMEOUT);
+        assertEquals(1, cachedService.getInvocations());
+        assertTrue(value1 == value2);
+
+        // STEP 3
+        // Action: same call as STEP 2 with a new key.
+        // Expected effect: method invoked and result cached.
+        // Verified by: invocations counter and different objects references between STEPS 2 and 3 results.
+        Object value3 = cachedService.cachedMethod(KEY_2).await().atMost(TIMEOUT);
+        assertEquals(2, cachedService.getInvocations());
+        assertTrue(value2 != value3);
+    }
+
+    @Test
+    public void testFailureIsNotCached() {
+        // A failed computation must not be cached: the method is invoked again on the next subscription.
+        assertThrows(IllegalStateException.class, () -> cachedService.failingMethod().await().atMost(TIMEOUT));
+        assertThrows(IllegalStateException.class, () -> cachedService.failingMethod().await().atMost(TIMEOUT));
+        assertEquals(2, cachedService.getFailures());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @CacheResult(cacheName = "test-cache")
+        public Uni<Object> cachedMethod(Object key) {
+            invocations.incrementAndGet();
+            return Uni.createFrom().item(new Object());
+        }
+
+        @CacheResult(cacheName = "failing-cache")
+        public Uni<Object> failingMethod() {
+            failures.incrementAndGet();
+            return Uni.createFrom().failure(new IllegalStateException());
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+
+        public int getFailures() {
+            return failures.get();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the composite cache keys generated at build time.
+ */
+public class GeneratedCompositeKeyCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testPrimitiveAndArrayKeyElements() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call with primitive and array key elements.
+        // Expected effect: method invoked and result cached.
+        // Verified by: STEP 2.
+        String value1 = cachedService.cachedMethod(1L, 2.5D, new int[] { 3, 4 }, true);
+
+        // STEP 2
+        // Action: same call as STEP 1 with a different but equal array.
+        // Expected effect: method not invoked and result coming from the cache.
+        // Verified by: same object reference between STEPS 1 and 2 results.
+        String value2 = cachedService.cachedMethod(1L, 2.5D, new int[] { 3, 4 }, true);
+        assertTrue(value1 == value2);
+
+        // STEP 3
+        // Action: same call as STEP 2 with a changing primitive key element.
+        // Expected effect: method invoked and result cached.
+        // Verified by: different objects references between STEPS 2 and 3 results.
+        String value3 = cachedService.cachedMethod(1L, 2.5D, new int[] { 3, 4 }, false);
+        assertTrue(value2 != value3);
+
+        // STEP 4
+        // Action: cache entry invalidation from a method with a parameter which is not part of the key.
+        // Expected effect: STEP 2 cache entry removed.
+        // Verified by: STEP 5.
+        cachedService.invalidate(new Object(), 1L, 2.5D, new int[] { 3, 4 }, true);
+
+        // STEP 5
+        // Action: same call as STEP 2.
+        // Expected effect: method invoked because of STEP 4 and result cached.
+        // Verified by: different objects references between STEPS 2 and 5 results.
+        String value5 = cachedService.cachedMethod(1L, 2.5D, new int[] { 3, 4 }, true);
+        assertTrue(value2 != value5);
+    }
+
+    @Test
+    public void testKeyElementsTypesMismatch() {
+        // The methods sharing the cache don't have the same key elements types (primitive vs boxed), so the cache keys
+        // have to be built at runtime. The invalidation must still work.
+        String value1 = cachedService.cachedMethodWithPrimitives(5, 'a');
+        String value2 = cachedService.cachedMethodWithPrimitives(5, 'a');
+        assertTrue(value1 == value2);
+
+        cachedService.invalidateWithBoxedTypes(5, 'a');
+
+        String value3 = cachedService.cachedMethodWithPrimitives(5, 'a');
+        assertTrue(value2 != value3);
+    }
+
+    @Singleton
+    static class CachedService {
+
+        private static final String CACHE_NAME = "test-cache";
+        private static final String MISMATCH_CACHE_NAME = "mismatch-cache";
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(long keyElement1, double keyElement2, int[] keyElement3, boolean keyElement4) {
+            return new String();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(Object notPartOfTheKey, @CacheKey long keyElement1, @CacheKey double keyElement2,
+                @CacheKey int[] keyElement3, @CacheKey boolean keyElement4) {
+        }
+
+        @CacheResult(cacheName = MISMATCH_CACHE_NAME)
+        public String cachedMethodWithPrimitives(int keyElement1, char keyElement2) {
+            return new String();
+        }
+
+        @CacheInvalidate(cacheName = MISMATCH_CACHE_NAME)
+        public void invalidateWithBoxedTypes(Integer keyElement1, Character keyElement2) {
+        }
+    }
+}
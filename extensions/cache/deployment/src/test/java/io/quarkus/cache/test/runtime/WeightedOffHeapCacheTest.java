@@ -0,0 +1,169 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the caches bounded by weight and the off-heap storage of the cached values.
+ */
+public class WeightedOffHeapCacheTest {
+
+    private static final String OFF_HEAP_CACHE_NAME = "off-heap-cache";
+    private static final String WEIGHTED_CACHE_NAME = "weighted-cache";
+    private static final int PAYLOAD_SIZE = 600;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClasses(CachedService.class, ListSizeWeigher.class).addAsResource(
+                    new StringAsset("quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE_NAME + "\".off-heap=true\n"
+                            + "quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE_NAME + "\".maximum-weight=1000\n"
+                            + "quarkus.cache.caffeine.\"" + WEIGHTED_CACHE_NAME + "\".maximum-weight=10\n"
+                            + "quarkus.cache.caffeine.\"" + WEIGHTED_CACHE_NAME + "\".weigher="
+                            + ListSizeWeigher.class.getName()),
+                    "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testOffHeapValues() throws InterruptedException {
+        CaffeineCache cache = (CaffeineCache) cacheRepository.getCache(OFF_HEAP_CACHE_NAME);
+        assertTrue(cache.isOffHeap());
+        assertEquals(1000L, cache.getMaximumWeight());
+
+        byte[] value1 = cachedService.payload(1);
+        byte[] value2 = cachedService.payload(1);
+        // Off-heap values are copied on each read.
+        assertNotSame(value1, value2);
+        assertArrayEquals(value1, value2);
+        assertEquals(1, cachedService.getPayloadInvocations());
+
+        List<String> list1 = cachedService.serializablePayload("foo");
+        List<String> list2 = cachedService.serializablePayload("foo");
+        assertNotSame(list1, list2);
+        assertEquals(list1, list2);
+
+        assertNull(cachedService.nullPayload());
+        assertNull(cachedService.nullPayload());
+
+        // Two payloads don't fit in the maximum weight of the cache.
+        cachedService.payload(2);
+        assertTrue(awaitEviction(cache, 3L));
+    }
+
+    @Test
+    public void testInvalidatedOffHeapValues() {
+        byte[] value1 = cachedService.payload(3);
+        int invocations = cachedService.getPayloadInvocations();
+        cachedService.invalidatePayload(3);
+        // The native memory of the invalidated value is freed, the next call computes and stores a new value.
+        byte[] value2 = cachedService.payload(3);
+        assertEquals(invocations + 1, cachedService.getPayloadInvocations());
+        assertArrayEquals(value1, value2);
+        assertArrayEquals(value2, cachedService.payload(3));
+        assertEquals(invocations + 1, cachedService.getPayloadInvocations());
+    }
+
+    @Test
+    public void testCustomWeigher() throws InterruptedException {
+        CaffeineCache cache = (CaffeineCache) cacheRepository.getCache(WEIGHTED_CACHE_NAME);
+        cachedService.list(6);
+        cachedService.list(6);
+        assertEquals(1, cachedService.getListInvocations());
+        cachedService.list(7);
+        assertTrue(awaitEviction(cache, 1L));
+    }
+
+    private static boolean awaitEviction(CaffeineCache cache, long expectedMaxSize) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (cache.estimatedSize() <= expectedMaxSize) {
+                return true;
+            }
+            Thread.sleep(20L);
+        }
+        return false;
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int payloadInvocations;
+        private int listInvocations;
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE_NAME)
+        public synchronized byte[] payload(int key) {
+            payloadInvocations++;
+            byte[] payload = new byte[PAYLOAD_SIZE];
+            Arrays.fill(payload, (byte) key);
+            return payload;
+        }
+
+        @CacheInvalidate(cacheName = OFF_HEAP_CACHE_NAME)
+        public void invalidatePayload(int key) {
+        }
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE_NAME)
+        public List<String> serializablePayload(String key) {
+            List<String> payload = new ArrayList<>();
+            payload.add(key);
+            return payload;
+        }
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE_NAME)
+        public String nullPayload() {
+            return null;
+        }
+
+        @CacheResult(cacheName = WEIGHTED_CACHE_NAME)
+        public synchronized List<Integer> list(int size) {
+            listInvocations++;
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+            return list;
+        }
+
+        public synchronized int getPayloadInvocations() {
+            return payloadInvocations;
+        }
+
+        public synchronized int getListInvocations() {
+            return listInvocations;
+        }
+    }
+
+    public static class ListSizeWeigher implements CacheWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return ((List<?>) value).size();
+        }
+    }
+}
@@ -23,6 +23,11 @@ import javax.enterprise.util.Nonbinding;
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * If the method returns a {@link java.util.concurrent.CompletionStage CompletionStage} or a Mutiny {@code Uni}, the result of
+ * the asynchronous computation is cached instead of the returned object itself. The calling thread is never blocked in that
+ * case: concurrent invocations with the same missing key share the same in-flight computation and the {@code lockTimeout}
+ * parameter is ignored. A failed computation is not cached.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
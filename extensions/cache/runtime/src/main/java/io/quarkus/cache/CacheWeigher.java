@@ -0,0 +1,21 @@
+package io.quarkus.cache;
+
+/**
+ * Computes the weight of the cache entries when a cache is bounded with the {@code maximum-weight} configuration property.
+ * The weight of an entry is computed once when the entry is stored in the cache and is never recomputed after that.
+ * <p>
+ * Implementations must be thread safe and have a public no-args constructor. They are configured with the
+ * {@code quarkus.cache.caffeine."cache-name".weigher} property.
+ */
+public interface CacheWeigher {
+
+    /**
+     * Returns the weight of a cache entry. There is no unit for entry weights, they are only compared with the maximum weight
+     * of the cache. The {@code value} argument is {@code null} if the cached method returned {@code null}.
+     *
+     * @param key cache key
+     * @param value cached value
+     * @return a non-negative weight
+     */
+    int weigh(Object key, Object value);
+}
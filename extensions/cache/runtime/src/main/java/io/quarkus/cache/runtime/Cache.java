@@ -0,0 +1,65 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Cache implementation SPI. The caching interceptors only interact with the caches stored in the {@link CacheRepository}
+ * through this interface, which allows the extension to be backed by different caching providers or storage strategies.
+ * <p>
+ * The keys passed by the interceptors are never {@code null}: a {@code null} key is rejected by {@link CacheKeyBuilder}
+ * before the cache is called. The values may be {@code null} however, and implementations must support them, for example
+ * by converting them with {@link NullValueConverter} before they are stored.
+ */
+public interface Cache {
+
+    /**
+     * @return cache name
+     */
+    String getName();
+
+    /**
+     * Returns the value associated with {@code key}, computing it from {@code valueLoader} on cache miss.
+     *
+     * @param key cache key
+     * @param valueLoader computation of the value, only called on cache miss
+     * @param lockTimeout delay in milliseconds before giving up waiting for a computation started by another thread,
+     *        {@code 0} to wait indefinitely
+     * @return cached value
+     * @throws Exception if the value computation failed
+     */
+    Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception;
+
+    /**
+     * Returns a future of the value associated with {@code key}, computing it from {@code valueLoader} on cache miss. This
+     * method must never block.
+     *
+     * @param key cache key
+     * @param valueLoader supplier of the value computation, only called on cache miss
+     * @return future of the cached value
+     */
+    CompletableFuture<Object> getAsync(Object key, Callable<CompletionStage<Object>> valueLoader);
+
+    /**
+     * Removes the entry associated with {@code key} from the cache.
+     *
+     * @param key cache key
+     */
+    void invalidate(Object key);
+
+    /**
+     * Removes all entries from the cache.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns a snapshot of the statistics recorded by this cache. Implementations that don't record statistics return
+     * zero values.
+     *
+     * @return cache statistics snapshot
+     */
+    default CacheStatistics getStatistics() {
+        return CacheStatistics.EMPTY;
+    }
+}
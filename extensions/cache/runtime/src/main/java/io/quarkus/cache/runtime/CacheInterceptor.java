@@ -29,11 +29,23 @@ public abstract class CacheInterceptor {
         return bindings;
     }
 
+    @SuppressWarnings("unchecked")
     protected <T> T getInterceptorBinding(InvocationContext context, Class<T> bindingClass) {
-        return getInterceptorBindings(context, bindingClass).get(0);
+        // This method is called on each invocation of a cached method so it should not allocate anything.
+        for (Annotation binding : InterceptorBindings.getInterceptorBindings(context)) {
+            if (bindingClass.isInstance(binding)) {
+                return (T) binding;
+            }
+        }
+        return null;
     }
 
-    protected Object buildCacheKey(String cacheName, short[] cacheKeyParameterPositions, Object[] methodParameterValues) {
+    protected Object buildCacheKey(String cacheName, short[] cacheKeyParameterPositions, String cacheKeyFactory,
+            Object[] methodParameterValues) {
+        // If a composite key class was generated at build time for the method, then it is used to build the key.
+        if (!cacheKeyFactory.isEmpty()) {
+            return cacheRepository.getCacheKeyFactory(cacheKeyFactory).create(methodParameterValues);
+        }
         // If the method doesn't have any parameter, then a unique default key is generated and used.
         if (methodParameterValues.length == 0) {
             return CacheKeyBuilder.buildDefault(cacheName);
@@ -43,7 +55,7 @@ public abstract class CacheInterceptor {
             // @CacheKey-annotated parameters that were identified at build time.
             if (cacheKeyParameterPositions.length > 0) {
                 for (int i = 0; i < cacheKeyParameterPositions.length; i++) {
-                    keyElements.add(methodParameterValues[i]);
+                    keyElements.add(methodParameterValues[cacheKeyParameterPositions[i]]);
                 }
             } else {
                 // Otherwise, the key is composed of all of the method parameters.
@@ -7,8 +7,6 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @CacheInvalidateInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY + 1)
@@ -22,9 +20,10 @@ public class CacheInvalidateInterceptor extends CacheInterceptor {
         for (CacheInvalidateInterceptorBinding binding : getInterceptorBindings(context,
                 CacheInvalidateInterceptorBinding.class)) {
             if (key == null) {
-                key = buildCacheKey(binding.cacheName(), binding.cacheKeyParameterPositions(), context.getParameters());
+                key = buildCacheKey(binding.cacheName(), binding.cacheKeyParameterPositions(), binding.cacheKeyFactory(),
+                        context.getParameters());
             }
-            CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
+            Cache cache = cacheRepository.getCache(binding.cacheName());
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf("Invalidating entry with key [%s] from cache [%s]", key, cache.getName());
             }
@@ -23,6 +23,9 @@ public @interface CacheInvalidateInterceptorBinding {
     @Nonbinding
     short[] cacheKeyParameterPositions() default {};
 
+    @Nonbinding
+    String cacheKeyFactory() default "";
+
     @Retention(RetentionPolicy.RUNTIME)
     @Target(ElementType.METHOD)
     @interface List {
@@ -0,0 +1,17 @@
+package io.quarkus.cache.runtime;
+
+/**
+ * Builds a cache key from the parameters of a method annotated with {@link io.quarkus.cache.CacheResult CacheResult} or
+ * {@link io.quarkus.cache.CacheInvalidate CacheInvalidate}. Implementations are generated at build time for the methods
+ * whose key is composed of several elements.
+ */
+public interface CacheKeyFactory {
+
+    /**
+     * Builds a cache key from the method parameters values.
+     * 
+     * @param methodParameterValues method parameters values
+     * @return cache key
+     */
+    Object create(Object[] methodParameterValues);
+}
@@ -0,0 +1,27 @@
+package io.quarkus.cache.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class CacheKeyFactoryRecorder {
+
+    public void registerCacheKeyFactories(BeanContainer beanContainer, Set<String> factoryClassNames) {
+        // The number of factories is known at build time so we can use fixed initialCapacity and loadFactor for the map.
+        Map<String, CacheKeyFactory> factories = new HashMap<>(factoryClassNames.size() + 1, 1.0F);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (String factoryClassName : factoryClassNames) {
+            try {
+                Class<?> factoryClass = classLoader.loadClass(factoryClassName);
+                factories.put(factoryClassName, (CacheKeyFactory) factoryClass.getDeclaredConstructor().newInstance());
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to create the cache key factory: " + factoryClassName, e);
+            }
+        }
+        beanContainer.instance(CacheRepository.class).setCacheKeyFactories(factories);
+    }
+}
@@ -5,22 +5,31 @@ import java.util.Map;
 
 import javax.enterprise.context.ApplicationScoped;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @ApplicationScoped
 public class CacheRepository {
 
     // There's no need for concurrency here since the map is created at build time and never modified after that.
-    private Map<String, CaffeineCache> caches;
+    private Map<String, Cache> caches;
+
+    // Same as the caches map, this one is created at build time and never modified after that.
+    private Map<String, CacheKeyFactory> cacheKeyFactories = Collections.emptyMap();
 
-    public void setCaches(Map<String, CaffeineCache> caches) {
+    public void setCaches(Map<String, Cache> caches) {
         if (this.caches != null) {
             throw new IllegalStateException("The caches map must only be set at build time");
         }
         this.caches = Collections.unmodifiableMap(caches);
     }
 
-    public CaffeineCache getCache(String cacheName) {
+    public Cache getCache(String cacheName) {
         return caches.get(cacheName);
     }
+
+    public void setCacheKeyFactories(Map<String, CacheKeyFactory> cacheKeyFactories) {
+        this.cacheKeyFactories = Collections.unmodifiableMap(cacheKeyFactories);
+    }
+
+    public CacheKeyFactory getCacheKeyFactory(String factoryClassName) {
+        return cacheKeyFactories.get(factoryClassName);
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.cache.runtime;
 
+import java.util.concurrent.CompletionStage;
+
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -7,8 +9,6 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @CacheResultInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY + 2)
@@ -16,14 +16,25 @@ public class CacheResultInterceptor extends CacheInterceptor {
 
     private static final Logger LOGGER = Logger.getLogger(CacheResultInterceptor.class);
 
+    @SuppressWarnings("unchecked")
     @AroundInvoke
     public Object intercept(InvocationContext context) throws Exception {
         CacheResultInterceptorBinding binding = getInterceptorBinding(context, CacheResultInterceptorBinding.class);
-        Object key = buildCacheKey(binding.cacheName(), binding.cacheKeyParameterPositions(), context.getParameters());
-        CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
+        Object key = buildCacheKey(binding.cacheName(), binding.cacheKeyParameterPositions(), binding.cacheKeyFactory(),
+                context.getParameters());
+        Cache cache = cacheRepository.getCache(binding.cacheName());
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, cache.getName());
         }
-        return cache.get(key, () -> context.proceed(), binding.lockTimeout());
+        switch (binding.returnType()) {
+            case COMPLETION_STAGE:
+                // The method result is computed without blocking and concurrent calls share the same in-flight future.
+                return cache.getAsync(key, () -> (CompletionStage<Object>) context.proceed());
+            case UNI:
+                // Mutiny is an optional dependency so the Uni specific code lives in a separate class.
+                return UniCacheSupport.get(cache, key, context);
+            default:
+                return cache.get(key, () -> context.proceed(), binding.lockTimeout());
+        }
     }
 }
@@ -19,6 +19,23 @@ public @interface CacheResultInterceptorBinding {
     @Nonbinding
     short[] cacheKeyParameterPositions() default {};
 
+    @Nonbinding
+    String cacheKeyFactory() default "";
+
     @Nonbinding
     long lockTimeout() default 0;
+
+    @Nonbinding
+    ReturnType returnType() default ReturnType.SYNCHRONOUS;
+
+    /**
+     * The kind of value returned by a method annotated with {@link io.quarkus.cache.CacheResult CacheResult}. It is detected
+     * at build time and determines whether the interceptor blocks until the value is computed or plugs the computation into
+     * the underlying asynchronous cache.
+     */
+    enum ReturnType {
+        SYNCHRONOUS,
+        COMPLETION_STAGE,
+        UNI
+    }
 }
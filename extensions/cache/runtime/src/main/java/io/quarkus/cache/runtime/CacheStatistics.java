@@ -0,0 +1,61 @@
+package io.quarkus.cache.runtime;
+
+/**
+ * Snapshot of the statistics recorded by a {@link Cache}.
+ */
+public class CacheStatistics {
+
+    static final CacheStatistics EMPTY = new CacheStatistics(0, 0, 0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long estimatedSize;
+
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, long loadSuccessCount, long loadFailureCount,
+            long estimatedSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.estimatedSize = estimatedSize;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return ratio of the requests that were hits, {@code 1.0} if there was no request
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * @return approximate number of entries in the cache
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+}
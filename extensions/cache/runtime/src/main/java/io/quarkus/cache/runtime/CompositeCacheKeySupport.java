@@ -0,0 +1,106 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class contains the hashing and equality logic used by the composite cache key classes generated at build time. It
+ * mirrors the behavior of {@link Arrays#deepHashCode(Object[])} and {@link Arrays#deepEquals(Object[], Object[])} without
+ * boxing the primitive key elements.
+ */
+public class CompositeCacheKeySupport {
+
+    public static final int INITIAL_HASH = 1;
+
+    public static int hash(int hash, boolean element) {
+        return 31 * hash + Boolean.hashCode(element);
+    }
+
+    public static int hash(int hash, byte element) {
+        return 31 * hash + Byte.hashCode(element);
+    }
+
+    public static int hash(int hash, char element) {
+        return 31 * hash + Character.hashCode(element);
+    }
+
+    public static int hash(int hash, short element) {
+        return 31 * hash + Short.hashCode(element);
+    }
+
+    public static int hash(int hash, int element) {
+        return 31 * hash + Integer.hashCode(element);
+    }
+
+    public static int hash(int hash, long element) {
+        return 31 * hash + Long.hashCode(element);
+    }
+
+    public static int hash(int hash, float element) {
+        return 31 * hash + Float.hashCode(element);
+    }
+
+    public static int hash(int hash, double element) {
+        return 31 * hash + Double.hashCode(element);
+    }
+
+    public static int hash(int hash, Object element) {
+        int elementHash;
+        if (element == null) {
+            elementHash = 0;
+        } else if (element.getClass().isArray()) {
+            // Arrays.deepHashCode handles both object and primitive arrays.
+            elementHash = Arrays.deepHashCode(new Object[] { element });
+        } else {
+            elementHash = element.hashCode();
+        }
+        return 31 * hash + elementHash;
+    }
+
+    public static boolean equal(boolean element, boolean other) {
+        return element == other;
+    }
+
+    public static boolean equal(byte element, byte other) {
+        return element == other;
+    }
+
+    public static boolean equal(char element, char other) {
+        return element == other;
+    }
+
+    public static boolean equal(short element, short other) {
+        return element == other;
+    }
+
+    public static boolean equal(int element, int other) {
+        return element == other;
+    }
+
+    public static boolean equal(long element, long other) {
+        return element == other;
+    }
+
+    public static boolean equal(float element, float other) {
+        // Same semantics as Float#equals.
+        return Float.floatToIntBits(element) == Float.floatToIntBits(other);
+    }
+
+    public static boolean equal(double element, double other) {
+        // Same semantics as Double#equals.
+        return Double.doubleToLongBits(element) == Double.doubleToLongBits(other);
+    }
+
+    public static boolean equal(Object element, Object other) {
+        if (element == other) {
+            return true;
+        }
+        if (element == null || other == null) {
+            return false;
+        }
+        if (element.getClass().isArray() && other.getClass().isArray()) {
+            return Arrays.deepEquals(new Object[] { element }, new Object[] { other });
+        }
+        return Objects.equals(element, other);
+    }
+}
@@ -0,0 +1,35 @@
+package io.quarkus.cache.runtime;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+import io.quarkus.cache.CacheWeigher;
+
+/**
+ * Default {@link CacheWeigher} used when a cache is bounded by weight without a specific weigher. It approximates the size
+ * in bytes of the most common value types and gives a weight of {@code 1} to any other value.
+ */
+public class DefaultCacheWeigher implements CacheWeigher {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof ByteBuffer) {
+            return ((ByteBuffer) value).remaining();
+        }
+        if (value instanceof CharSequence) {
+            // Java chars are stored with two bytes.
+            return ((CharSequence) value).length() * 2;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).size();
+        }
+        return 1;
+    }
+}
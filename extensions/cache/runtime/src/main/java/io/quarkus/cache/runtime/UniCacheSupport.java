@@ -0,0 +1,22 @@
+package io.quarkus.cache.runtime;
+
+import javax.interceptor.InvocationContext;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class is only loaded when a method annotated with {@link io.quarkus.cache.CacheResult CacheResult} returns a
+ * {@link Uni}, which means Mutiny is available on the classpath.
+ */
+class UniCacheSupport {
+
+    @SuppressWarnings("unchecked")
+    static Uni<Object> get(Cache cache, Object key, InvocationContext context) {
+        /*
+         * The cache is only queried on subscription, which preserves the lazy nature of Uni. On cache miss, the interceptor
+         * chain is resumed asynchronously and the returned Uni is subscribed to from the cache computation.
+         */
+        return Uni.createFrom().completionStage(
+                () -> cache.getAsync(key, () -> ((Uni<Object>) context.proceed()).subscribeAsCompletionStage()));
+    }
+}
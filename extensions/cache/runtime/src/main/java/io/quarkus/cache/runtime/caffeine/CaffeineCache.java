@@ -6,14 +6,29 @@ import static io.quarkus.cache.runtime.NullValueConverter.toCacheValue;
 import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.Cache;
+import io.quarkus.cache.runtime.CacheStatistics;
+import io.quarkus.cache.runtime.DefaultCacheWeigher;
+import io.quarkus.cache.runtime.metrics.MetricsStatsCounter;
+
+public class CaffeineCache implements Cache {
 
-public class CaffeineCache {
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
 
     private AsyncCache<Object, Object> cache;
 
@@ -23,10 +38,18 @@ public class CaffeineCache {
 
     private Long maximumSize;
 
+    private Long maximumWeight;
+
     private Duration expireAfterWrite;
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private boolean recordStats;
+
+    private boolean offHeap;
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
         this.name = cacheInfo.name;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -39,6 +62,16 @@ public class CaffeineCache {
             this.maximumSize = cacheInfo.maximumSize;
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            this.maximumWeight = cacheInfo.maximumWeight;
+            builder.maximumWeight(cacheInfo.maximumWeight);
+            builder.weigher(new StoredValueWeigher(createWeigher(cacheInfo.weigher)));
+        }
+        this.offHeap = cacheInfo.offHeap;
+        if (cacheInfo.offHeap) {
+            // The native memory of the off-heap values is freed as soon as their entries are evicted, invalidated or replaced.
+            builder.removalListener((key, storedValue, cause) -> release(storedValue));
+        }
         if (cacheInfo.expireAfterWrite != null) {
             this.expireAfterWrite = cacheInfo.expireAfterWrite;
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
@@ -47,12 +80,35 @@ public class CaffeineCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.recordStats) {
+            this.recordStats = true;
+            if (cacheInfo.metricsEnabled) {
+                // The load times are also pushed to a metrics timer which computes their percentiles.
+                builder.recordStats(() -> new MetricsStatsCounter(cacheInfo.name));
+            } else {
+                builder.recordStats();
+            }
+        }
+        /*
+         * The refresh is not delegated to Caffeine because a cache loader would have to invoke the cached method after the
+         * interception of the original call has ended. Stale entries are instead refreshed by the next call of the cached
+         * method, see RefreshableValue.
+         */
+        this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
         cache = builder.buildAsync();
     }
 
+    @Override
     public Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception {
         if (lockTimeout <= 0) {
-            return fromCacheValue(cache.synchronous().get(key, k -> new MappingSupplier(valueLoader).get()));
+            for (;;) {
+                Object storedValue = cache.synchronous().get(key, k -> toStoredValue(new MappingSupplier(valueLoader).get()));
+                Object value = getValue(key, storedValue, valueLoader);
+                if (value != OffHeapValue.RELEASED) {
+                    return value;
+                }
+                // The entry was removed concurrently and its off-heap value released, the value is computed again.
+            }
         }
 
         // The lock timeout logic starts here.
@@ -66,18 +122,19 @@ public class CaffeineCache {
 
         CompletableFuture<Object> future = cache.get(key, (k, executor) -> {
             isCurrentThreadComputation[0] = true;
-            return CompletableFuture.supplyAsync(new MappingSupplier(valueLoader), executor);
+            return CompletableFuture.supplyAsync(new MappingSupplier(valueLoader), executor)
+                    .thenApply(this::toStoredValue);
         });
 
         if (isCurrentThreadComputation[0]) {
             // The value is missing and its computation was started from the current thread.
             // We'll wait for the result no matter how long it takes.
-            return fromCacheValue(future.get());
+            return orCall(fromStoredValue(future.get()), valueLoader);
         } else {
             // The value is either already present in the cache or missing and its computation was started from another thread.
             // We want to retrieve it from the cache within the lock timeout delay.
             try {
-                return fromCacheValue(future.get(lockTimeout, TimeUnit.MILLISECONDS));
+                return orCall(getValue(key, future.get(lockTimeout, TimeUnit.MILLISECONDS), valueLoader), valueLoader);
             } catch (TimeoutException e) {
                 // Timeout triggered! We don't want to wait any longer for the value computation and we'll simply invoke the
                 // cached method and return its result without caching it.
@@ -87,14 +144,96 @@ public class CaffeineCache {
         }
     }
 
+    /**
+     * Returns a future of the value associated with {@code key}, computing it from {@code valueLoader} on cache miss. This
+     * method never blocks: the {@link CompletionStage} produced by the value loader is stored as is in the underlying
+     * {@link AsyncCache}, so concurrent calls with the same key share the same in-flight computation. If that computation
+     * fails, the entry is automatically removed from the cache. If the entry is due for a refresh, the value loader is
+     * called again and the current value is returned until the new one is available.
+     *
+     * @param key cache key
+     * @param valueLoader supplier of the value computation, only called on cache miss
+     * @return future of the cached value
+     */
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Callable<CompletionStage<Object>> valueLoader) {
+        CompletableFuture<Object> future = cache.get(key, (k, executor) -> loadAsync(valueLoader));
+        if (refreshAfterWrite != null && future.isDone() && !future.isCompletedExceptionally()) {
+            Object storedValue = future.join();
+            if (storedValue instanceof RefreshableValue && ((RefreshableValue) storedValue).startRefresh(refreshAfterWrite)) {
+                loadAsync(valueLoader).whenComplete((refreshedValue, failure) -> {
+                    if (failure == null) {
+                        replaceStoredValue(key, storedValue, refreshedValue);
+                    } else {
+                        refreshFailed(key, (RefreshableValue) storedValue, failure);
+                    }
+                });
+            }
+        }
+        // The cached future is never exposed to the caller, who could otherwise complete it and alter the cache content.
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        future.whenComplete((value, failure) -> {
+            if (failure == null) {
+                Object cachedValue = fromStoredValue(value);
+                if (cachedValue == OffHeapValue.RELEASED) {
+                    // The entry was removed concurrently and its off-heap value released, the value is computed again.
+                    getAsync(key, valueLoader).whenComplete((v, f) -> {
+                        if (f == null) {
+                            result.complete(v);
+                        } else {
+                            result.completeExceptionally(f);
+                        }
+                    });
+                } else {
+                    result.complete(cachedValue);
+                }
+            } else if (failure instanceof CompletionException && failure.getCause() != null) {
+                // The original failure may be wrapped by a dependent stage of the value loader.
+                result.completeExceptionally(failure.getCause());
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+        return result;
+    }
+
+    @Override
     public void invalidate(Object key) {
         cache.synchronous().invalidate(key);
     }
 
+    @Override
     public void invalidateAll() {
         cache.synchronous().invalidateAll();
     }
 
+    @Override
+    public CacheStatistics getStatistics() {
+        CacheStats stats = stats();
+        return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.loadSuccessCount(),
+                stats.loadFailureCount(), estimatedSize());
+    }
+
+    /**
+     * Returns a snapshot of the statistics recorded by this cache. All values are zero unless the {@code record-stats}
+     * configuration property is enabled for this cache.
+     *
+     * @return cache statistics snapshot
+     */
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    /**
+     * Returns the approximate number of entries in this cache.
+     *
+     * @return estimated number of entries
+     */
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    @Override
     public String getName() {
         return name;
     }
@@ -109,6 +248,11 @@ public class CaffeineCache {
         return maximumSize;
     }
 
+    // For testing purposes only.
+    public Long getMaximumWeight() {
+        return maximumWeight;
+    }
+
     // For testing purposes only.
     public Duration getExpireAfterWrite() {
         return expireAfterWrite;
@@ -119,6 +263,176 @@ public class CaffeineCache {
         return expireAfterAccess;
     }
 
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    // For testing purposes only.
+    public boolean isRecordStats() {
+        return recordStats;
+    }
+
+    // For testing purposes only.
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    private static CacheWeigher createWeigher(String weigherClassName) {
+        if (weigherClassName == null) {
+            return new DefaultCacheWeigher();
+        }
+        try {
+            return (CacheWeigher) Class.forName(weigherClassName, true, Thread.currentThread().getContextClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the cache weigher " + weigherClassName, e);
+        }
+    }
+
+    private Object toStoredValue(Object cacheValue) {
+        Object value = offHeap ? toOffHeapValue(cacheValue) : cacheValue;
+        return refreshAfterWrite == null ? value : new RefreshableValue(value);
+    }
+
+    /**
+     * Calls the value loader and adapts its result to a new {@link CompletableFuture} of the stored value.
+     * {@link CompletionStage#toCompletableFuture()} is not used since it is an optional operation.
+     */
+    private CompletableFuture<Object> loadAsync(Callable<CompletionStage<Object>> valueLoader) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        try {
+            valueLoader.call().whenComplete((value, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                    return;
+                }
+                try {
+                    result.complete(toStoredValue(toCacheValue(value)));
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of the entry. If the stored value is due for a refresh, the value loader is invoked again from the
+     * current call first. Concurrent calls keep receiving the stored value while the refresh is in progress.
+     *
+     * @return the value, or {@link OffHeapValue#RELEASED} if the off-heap value was released by a concurrent removal
+     */
+    private Object getValue(Object key, Object storedValue, Callable<Object> valueLoader) {
+        if (!(storedValue instanceof RefreshableValue) || !((RefreshableValue) storedValue).startRefresh(refreshAfterWrite)) {
+            return fromStoredValue(storedValue);
+        }
+        Object refreshedValue;
+        try {
+            refreshedValue = toStoredValue(toCacheValue(valueLoader.call()));
+        } catch (Exception e) {
+            refreshFailed(key, (RefreshableValue) storedValue, e);
+            return fromStoredValue(storedValue);
+        }
+        // The value is read before the replacement because the refreshed value is released if it can't be stored.
+        Object value = fromStoredValue(refreshedValue);
+        replaceStoredValue(key, storedValue, refreshedValue);
+        return value;
+    }
+
+    /**
+     * Replaces the stored value unless the entry was invalidated or replaced since the refresh started, in which case the
+     * refreshed value is released.
+     */
+    private void replaceStoredValue(Object key, Object storedValue, Object refreshedValue) {
+        CompletableFuture<Object> current = cache.asMap().get(key);
+        boolean replaced = current != null && current.isDone() && !current.isCompletedExceptionally()
+                && current.join() == storedValue
+                && cache.asMap().replace(key, current, CompletableFuture.completedFuture(refreshedValue));
+        if (!replaced) {
+            release(refreshedValue);
+        }
+    }
+
+    private static Object orCall(Object value, Callable<Object> valueLoader) throws Exception {
+        // The entry was removed concurrently and its off-heap value released, the method is invoked without caching.
+        return value == OffHeapValue.RELEASED ? valueLoader.call() : value;
+    }
+
+    private static void release(Object storedValue) {
+        Object value = storedValue instanceof RefreshableValue ? ((RefreshableValue) storedValue).value : storedValue;
+        if (value instanceof OffHeapValue) {
+            ((OffHeapValue) value).release();
+        }
+    }
+
+    private void refreshFailed(Object key, RefreshableValue storedValue, Throwable failure) {
+        // A failed refresh keeps the current value, the next call will try again.
+        storedValue.refreshing.set(false);
+        LOGGER.warnf(failure, "Unable to refresh the entry with key [%s] of cache [%s]", key, name);
+    }
+
+    private Object toOffHeapValue(Object cacheValue) {
+        // The null value placeholder is kept on the heap.
+        return fromCacheValue(cacheValue) == null ? cacheValue : OffHeapValue.of(name, cacheValue);
+    }
+
+    private static Object fromStoredValue(Object storedValue) {
+        Object value = storedValue instanceof RefreshableValue ? ((RefreshableValue) storedValue).value : storedValue;
+        if (value instanceof OffHeapValue) {
+            return ((OffHeapValue) value).get();
+        }
+        return fromCacheValue(value);
+    }
+
+    /**
+     * Weighs the values as they are stored in the cache: off-heap values are weighed by their size in bytes, and any other
+     * value is weighed by the configured {@link CacheWeigher}.
+     */
+    private static class StoredValueWeigher implements Weigher<Object, Object> {
+
+        private final CacheWeigher delegate;
+
+        StoredValueWeigher(CacheWeigher delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int weigh(Object key, Object storedValue) {
+            Object value = storedValue instanceof RefreshableValue ? ((RefreshableValue) storedValue).value : storedValue;
+            if (value instanceof OffHeapValue) {
+                return ((OffHeapValue) value).size();
+            }
+            return delegate.weigh(key, fromCacheValue(value));
+        }
+    }
+
+    /**
+     * Value stored in the cache when refresh-after-write is enabled. It records when the value was written so that the first
+     * call of the cached method after the refresh delay can invoke the method again, within its own interception.
+     */
+    private static class RefreshableValue {
+
+        final Object value;
+        final long writeTime;
+        final AtomicBoolean refreshing;
+
+        RefreshableValue(Object value) {
+            this.value = value;
+            this.writeTime = System.nanoTime();
+            this.refreshing = new AtomicBoolean();
+        }
+
+        /**
+         * @return {@code true} if the refresh delay has elapsed and no other call is already refreshing this value
+         */
+        boolean startRefresh(Duration refreshAfterWrite) {
+            return System.nanoTime() - writeTime >= refreshAfterWrite.toNanos() && refreshing.compareAndSet(false, true);
+        }
+    }
+
     private static class MappingSupplier implements Supplier<Object> {
 
         private final Callable<?> valueLoader;
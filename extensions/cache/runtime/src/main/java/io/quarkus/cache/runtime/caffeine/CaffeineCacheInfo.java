@@ -11,10 +11,22 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
+    public String weigher;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public boolean recordStats;
+
+    public boolean offHeap;
+
+    public boolean metricsEnabled;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
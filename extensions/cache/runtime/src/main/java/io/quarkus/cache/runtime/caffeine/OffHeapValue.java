@@ -0,0 +1,154 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import sun.misc.Unsafe;
+
+/**
+ * Cache value stored outside of the Java heap in natively allocated memory. Byte arrays are copied as is, any other value is
+ * serialized and therefore needs to be {@link Serializable}. Each read returns a new copy of the original value.
+ * <p>
+ * The native memory of a value is released as soon as its entry is removed from the cache, see {@link #release()}. Reads
+ * in progress hold a reference to the memory so that it is only freed once they are done.
+ */
+class OffHeapValue {
+
+    /**
+     * Returned by {@link #get()} if the value was released by a concurrent removal of its entry.
+     */
+    static final Object RELEASED = new Object();
+
+    private static final Unsafe UNSAFE = AccessController.doPrivileged(new PrivilegedAction<Unsafe>() {
+        public Unsafe run() {
+            try {
+                Field field = Unsafe.class.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                return (Unsafe) field.get(null);
+            } catch (IllegalAccessException e) {
+                throw new IllegalAccessError(e.getMessage());
+            } catch (NoSuchFieldException e) {
+                throw new NoSuchFieldError(e.getMessage());
+            }
+        }
+    });
+    private static final long BYTE_ARRAY_OFFSET = UNSAFE.arrayBaseOffset(byte[].class);
+
+    private final long address;
+    private final int size;
+    private final boolean byteArray;
+    // One reference is held by the cache entry and one by each read in progress.
+    private final AtomicInteger references;
+    private final AtomicBoolean released;
+
+    private OffHeapValue(byte[] bytes, boolean byteArray) {
+        this.size = bytes.length;
+        this.address = UNSAFE.allocateMemory(size);
+        UNSAFE.copyMemory(bytes, BYTE_ARRAY_OFFSET, null, address, size);
+        this.byteArray = byteArray;
+        this.references = new AtomicInteger(1);
+        this.released = new AtomicBoolean();
+    }
+
+    static OffHeapValue of(String cacheName, Object value) {
+        if (value instanceof byte[]) {
+            return new OffHeapValue((byte[]) value, true);
+        }
+        if (!(value instanceof Serializable)) {
+            throw new IllegalStateException("The off-heap cache [" + cacheName + "] can only store serializable values: "
+                    + value.getClass().getName());
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to serialize a value of the off-heap cache [" + cacheName + "]", e);
+        }
+        return new OffHeapValue(bytes.toByteArray(), false);
+    }
+
+    /**
+     * @return size in bytes of the off-heap storage of this value
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of the value, or {@link #RELEASED} if the value was released
+     */
+    Object get() {
+        if (!retain()) {
+            return RELEASED;
+        }
+        byte[] bytes = new byte[size];
+        try {
+            UNSAFE.copyMemory(null, address, bytes, BYTE_ARRAY_OFFSET, size);
+        } finally {
+            decrementReferences();
+        }
+        if (byteArray) {
+            return bytes;
+        }
+        try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to deserialize an off-heap cache value", e);
+        }
+    }
+
+    /**
+     * Releases the reference held by the cache. The native memory is freed once the reads in progress are done. This method
+     * is idempotent.
+     */
+    void release() {
+        if (released.compareAndSet(false, true)) {
+            decrementReferences();
+        }
+    }
+
+    private boolean retain() {
+        for (;;) {
+            int current = references.get();
+            if (current == 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void decrementReferences() {
+        if (references.decrementAndGet() == 0) {
+            UNSAFE.freeMemory(address);
+        }
+    }
+
+    private static class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
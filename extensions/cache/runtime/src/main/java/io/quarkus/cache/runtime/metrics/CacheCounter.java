@@ -0,0 +1,86 @@
+package io.quarkus.cache.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Counter;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.Cache;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.CacheStatistics;
+
+public class CacheCounter implements Counter {
+
+    private String cacheName;
+    private volatile Cache cache;
+    private String metric;
+
+    public CacheCounter() {
+
+    }
+
+    /**
+     * @param cacheName Which cache should be queried for metric
+     * @param metricName Name of the CacheStatistics property that should be called to retrieve the particular value. This has
+     *        nothing to do with the metric name from MP Metrics point of view!
+     */
+    public CacheCounter(String cacheName, String metricName) {
+        this.cacheName = cacheName;
+        this.metric = metricName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    private Cache getCache() {
+        Cache cacheLocal = cache;
+        if (cacheLocal == null) {
+            synchronized (this) {
+                cacheLocal = cache;
+                if (cacheLocal == null) {
+                    cache = cacheLocal = Arc.container().instance(CacheRepository.class).get()
+                            .getCache(cacheName);
+                }
+            }
+        }
+        return cacheLocal;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public void inc() {
+    }
+
+    @Override
+    public void inc(long n) {
+    }
+
+    @Override
+    public long getCount() {
+        CacheStatistics statistics = getCache().getStatistics();
+        switch (metric) {
+            case "hitCount":
+                return statistics.getHitCount();
+            case "missCount":
+                return statistics.getMissCount();
+            case "evictionCount":
+                return statistics.getEvictionCount();
+            case "loadSuccessCount":
+                return statistics.getLoadSuccessCount();
+            case "loadFailureCount":
+                return statistics.getLoadFailureCount();
+            default:
+                throw new IllegalArgumentException("Unknown cache metric");
+        }
+    }
+}
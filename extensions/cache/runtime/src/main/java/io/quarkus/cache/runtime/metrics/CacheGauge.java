@@ -0,0 +1,70 @@
+package io.quarkus.cache.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Gauge;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.Cache;
+import io.quarkus.cache.runtime.CacheRepository;
+
+public class CacheGauge implements Gauge<Number> {
+
+    private String cacheName;
+    private volatile Cache cache;
+    private String metric;
+
+    public CacheGauge() {
+
+    }
+
+    /**
+     * @param cacheName Which cache should be queried for metric
+     * @param metricName Name of the cache statistic that should be returned. This has nothing to do with the metric name from
+     *        MP Metrics point of view!
+     */
+    public CacheGauge(String cacheName, String metricName) {
+        this.cacheName = cacheName;
+        this.metric = metricName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    private Cache getCache() {
+        Cache cacheLocal = cache;
+        if (cacheLocal == null) {
+            synchronized (this) {
+                cacheLocal = cache;
+                if (cacheLocal == null) {
+                    cache = cacheLocal = Arc.container().instance(CacheRepository.class).get()
+                            .getCache(cacheName);
+                }
+            }
+        }
+        return cacheLocal;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public Number getValue() {
+        switch (metric) {
+            case "hitRate":
+                return getCache().getStatistics().getHitRate();
+            case "estimatedSize":
+                return getCache().getStatistics().getEstimatedSize();
+            default:
+                throw new IllegalArgumentException("Unknown cache metric");
+        }
+    }
+}
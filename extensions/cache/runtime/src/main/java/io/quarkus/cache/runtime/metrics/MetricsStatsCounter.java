@@ -0,0 +1,89 @@
+package io.quarkus.cache.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * {@link StatsCounter} that records the cache statistics as Caffeine does by default and also pushes each load time to a
+ * metrics {@link Timer}, which provides the load time percentiles. The counters and gauges of the cache statistics are
+ * computed on demand from {@link #snapshot()} and don't need to be fed from here.
+ */
+public class MetricsStatsCounter implements StatsCounter {
+
+    public static final String LOAD_TIME_METRIC_NAME = "cache.load.time";
+    public static final String CACHE_TAG_NAME = "cache";
+
+    private final StatsCounter delegate = new ConcurrentStatsCounter();
+    private final MetricID loadTimeMetricId;
+    private volatile Timer loadTimer;
+
+    public MetricsStatsCounter(String cacheName) {
+        loadTimeMetricId = new MetricID(LOAD_TIME_METRIC_NAME, new Tag(CACHE_TAG_NAME, cacheName));
+    }
+
+    @Override
+    public void recordHits(int count) {
+        delegate.recordHits(count);
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        delegate.recordMisses(count);
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        delegate.recordLoadSuccess(loadTime);
+        updateLoadTimer(loadTime);
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        delegate.recordLoadFailure(loadTime);
+        updateLoadTimer(loadTime);
+    }
+
+    @Override
+    public void recordEviction() {
+        delegate.recordEviction();
+    }
+
+    @Override
+    public void recordEviction(int weight) {
+        delegate.recordEviction(weight);
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        delegate.recordEviction(weight, cause);
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return delegate.snapshot();
+    }
+
+    private void updateLoadTimer(long loadTime) {
+        Timer timer = loadTimer;
+        if (timer == null) {
+            // The timer is registered by the SmallRye Metrics extension, possibly after this cache was built.
+            timer = MetricRegistries.get(MetricRegistry.Type.VENDOR).getTimers().get(loadTimeMetricId);
+            if (timer == null) {
+                return;
+            }
+            loadTimer = timer;
+        }
+        timer.update(loadTime, TimeUnit.NANOSECONDS);
+    }
+}
@@ -12,4 +12,11 @@ public class H2AgroalConnectionConfigurer implements AgroalConnectionConfigurer
     public void disableSslSupport(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration) {
         // do not log anything for H2
     }
+
+    @Override
+    public void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize) {
+        dataSourceConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration()
+                .jdbcProperty("QUERY_CACHE_SIZE", String.valueOf(statementCacheSize));
+    }
 }
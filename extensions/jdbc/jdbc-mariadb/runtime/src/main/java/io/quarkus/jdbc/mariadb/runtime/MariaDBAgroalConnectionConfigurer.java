@@ -12,4 +12,12 @@ public class MariaDBAgroalConnectionConfigurer implements AgroalConnectionConfig
     public void disableSslSupport(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration) {
         dataSourceConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcProperty("useSSL", "false");
     }
+
+    @Override
+    public void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize) {
+        dataSourceConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration()
+                .jdbcProperty("cachePrepStmts", String.valueOf(statementCacheSize > 0))
+                .jdbcProperty("prepStmtCacheSize", String.valueOf(statementCacheSize));
+    }
 }
@@ -12,4 +12,12 @@ public class MsSQLAgroalConnectionConfigurer implements AgroalConnectionConfigur
     public void disableSslSupport(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration) {
         dataSourceConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcProperty("encrypt", "false");
     }
+
+    @Override
+    public void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize) {
+        dataSourceConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration()
+                .jdbcProperty("disableStatementPooling", String.valueOf(statementCacheSize == 0))
+                .jdbcProperty("statementPoolingCacheSize", String.valueOf(statementCacheSize));
+    }
 }
@@ -13,4 +13,11 @@ public class PostgreSQLAgroalConnectionConfigurer implements AgroalConnectionCon
         dataSourceConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcProperty("sslmode",
                 "disable");
     }
+
+    @Override
+    public void setStatementCacheSize(String databaseKind, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
+            int statementCacheSize) {
+        dataSourceConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration()
+                .jdbcProperty("preparedStatementCacheQueries", String.valueOf(statementCacheSize));
+    }
 }
@@ -7,6 +7,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
 import org.quartz.core.QuartzSchedulerThread;
 import org.quartz.core.SchedulerSignalerImpl;
 import org.quartz.impl.StdSchedulerFactory;
@@ -44,6 +47,9 @@ import io.quarkus.quartz.runtime.QuartzRuntimeConfig;
 import io.quarkus.quartz.runtime.QuartzScheduler;
 import io.quarkus.quartz.runtime.QuartzSupport;
 import io.quarkus.quartz.runtime.StoreType;
+import io.quarkus.quartz.runtime.metrics.QuartzCounter;
+import io.quarkus.quartz.runtime.metrics.QuartzGauge;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 
 /**
  * @author Martin Kouba
@@ -123,6 +129,9 @@ public class QuartzProcessor {
         reflectiveClasses.add(new ReflectiveClassBuildItem(true, false, SimpleInstanceIdGenerator.class.getName()));
         reflectiveClasses.add(new ReflectiveClassBuildItem(false, false, CascadingClassLoadHelper.class.getName()));
         reflectiveClasses.add(new ReflectiveClassBuildItem(true, true, storeType.clazz));
+        if (config.metricsEnabled) {
+            reflectiveClasses.add(new ReflectiveClassBuildItem(true, true, storeType.timedClazz));
+        }
 
         if (storeType.equals(StoreType.DB)) {
             reflectiveClasses.add(new ReflectiveClassBuildItem(true, false, JobStoreSupport.class.getName()));
@@ -139,6 +148,51 @@ public class QuartzProcessor {
         return reflectiveClasses;
     }
 
+    @BuildStep
+    void registerMetrics(QuartzBuildTimeConfig config, BuildProducer<MetricBuildItem> metrics) {
+        Metadata acquisitionCountMetadata = Metadata.builder()
+                .withName("quartz.trigger.acquisition.count")
+                .withDescription("Number of times the scheduler acquired the next triggers to fire from the job store.")
+                .withType(MetricType.COUNTER)
+                .build();
+        metrics.produce(new MetricBuildItem(acquisitionCountMetadata,
+                new QuartzCounter("acquisitionCount"),
+                config.metricsEnabled,
+                "quartz"));
+
+        Metadata acquiredTriggerCountMetadata = Metadata.builder()
+                .withName("quartz.trigger.acquired.count")
+                .withDescription("Number of triggers acquired from the job store.")
+                .withType(MetricType.COUNTER)
+                .build();
+        metrics.produce(new MetricBuildItem(acquiredTriggerCountMetadata,
+                new QuartzCounter("acquiredTriggerCount"),
+                config.metricsEnabled,
+                "quartz"));
+
+        Metadata acquisitionTimeTotalMetadata = Metadata.builder()
+                .withName("quartz.trigger.acquisition.time.total")
+                .withDescription("Total time spent acquiring triggers from the job store, including waiting for the lock.")
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.MILLISECONDS)
+                .build();
+        metrics.produce(new MetricBuildItem(acquisitionTimeTotalMetadata,
+                new QuartzGauge("acquisitionTimeTotal"),
+                config.metricsEnabled,
+                "quartz"));
+
+        Metadata acquisitionTimeMaxMetadata = Metadata.builder()
+                .withName("quartz.trigger.acquisition.time.max")
+                .withDescription("Maximum time spent acquiring triggers from the job store, including waiting for the lock.")
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.MILLISECONDS)
+                .build();
+        metrics.produce(new MetricBuildItem(acquisitionTimeMaxMetadata,
+                new QuartzGauge("acquisitionTimeMax"),
+                config.metricsEnabled,
+                "quartz"));
+    }
+
     @BuildStep
     public List<LogCleanupFilterBuildItem> logCleanup(QuartzBuildTimeConfig config) {
         StoreType storeType = config.storeType;
@@ -154,9 +208,12 @@ public class QuartzProcessor {
                 "Scheduler meta-data:",
                 "Scheduler QuarkusQuartzScheduler"));
 
-        logCleanUps.add(new LogCleanupFilterBuildItem(storeType.clazz, storeType.name + " initialized.", "Handling",
-                "Using db table-based data access locking", "JDBCJobStore threads will inherit ContextClassLoader of thread",
-                "Couldn't rollback jdbc connection", "Database connection shutdown unsuccessful"));
+        for (String storeClass : new String[] { storeType.clazz, storeType.timedClazz }) {
+            logCleanUps.add(new LogCleanupFilterBuildItem(storeClass, storeType.name + " initialized.", "Handling",
+                    "Using db table-based data access locking", "Using thread monitor-based data access locking",
+                    "JDBCJobStore threads will inherit ContextClassLoader of thread",
+                    "Couldn't rollback jdbc connection", "Database connection shutdown unsuccessful"));
+        }
         logCleanUps.add(new LogCleanupFilterBuildItem(SchedulerSignalerImpl.class.getName(),
                 "Initialized Scheduler Signaller of type"));
         logCleanUps.add(new LogCleanupFilterBuildItem(QuartzSchedulerThread.class.getName(),
@@ -0,0 +1,74 @@
+package io.quarkus.quartz.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+
+import io.quarkus.quartz.runtime.TimedRAMJobStore;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TriggerAcquisitionMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.quartz.metrics.enabled=true\n"
+                            + "quarkus.quartz.max-batch-size=5\n"
+                            + "quarkus.quartz.batch-trigger-acquisition-fire-ahead-time-window=0.1s\n"
+                            + "quarkus.quartz.misfire-threshold=10s"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler quartz;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testTriggerAcquisitionMetrics() throws InterruptedException, SchedulerException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS), "Latch count: " + Jobs.LATCH.getCount());
+        assertEquals(TimedRAMJobStore.class, quartz.getMetaData().getJobStoreClass());
+
+        Counter acquisitionCount = registry.getCounters().get(new MetricID("quartz.trigger.acquisition.count"));
+        Counter acquiredCount = registry.getCounters().get(new MetricID("quartz.trigger.acquired.count"));
+        Gauge<?> acquisitionTimeMax = registry.getGauges().get(new MetricID("quartz.trigger.acquisition.time.max"));
+        assertNotNull(acquisitionCount, "Quartz metrics should be registered");
+        assertNotNull(acquiredCount, "Quartz metrics should be registered");
+        assertNotNull(acquisitionTimeMax, "Quartz metrics should be registered");
+        assertTrue(acquisitionCount.getCount() > 0);
+        assertTrue(acquiredCount.getCount() >= 2);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "0.5s")
+        void tick() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
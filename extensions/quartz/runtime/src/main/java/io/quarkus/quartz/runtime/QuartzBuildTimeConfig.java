@@ -38,4 +38,10 @@ public class QuartzBuildTimeConfig {
      */
     @ConfigItem(name = "datasource")
     public Optional<String> dataSourceName;
+
+    /**
+     * Whether or not trigger acquisition metrics are published in case the smallrye-metrics extension is present.
+     */
+    @ConfigItem(name = "metrics.enabled")
+    public boolean metricsEnabled;
 }
@@ -1,5 +1,8 @@
 package io.quarkus.quartz.runtime;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -19,6 +22,40 @@ public class QuartzRuntimeConfig {
     @ConfigItem(defaultValue = "5")
     public int threadPriority;
 
+    /**
+     * The maximum number of triggers the scheduler acquires from the job store at once.
+     * <p>
+     * Acquiring several triggers at once reduces the number of round trips and the contention on the trigger lock when
+     * using the `db` store type with many jobs. The value is capped by the number of available worker threads.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int maxBatchSize;
+
+    /**
+     * The amount of time a trigger is allowed to be acquired and fired ahead of its scheduled fire time.
+     * <p>
+     * Increasing this value allows more triggers to be acquired in a single batch at the cost of firing them slightly
+     * earlier than scheduled.
+     */
+    @ConfigItem(defaultValue = "0s")
+    public Duration batchTriggerAcquisitionFireAheadTimeWindow;
+
+    /**
+     * The amount of time a trigger may be late before it is considered misfired.
+     * <p>
+     * If not specified, the threshold is 60 seconds for the `db` store type and 5 seconds for the `ram` store type.
+     */
+    @ConfigItem
+    public Optional<Duration> misfireThreshold;
+
+    /**
+     * The frequency at which a clustered scheduler instance checks in with the other instances of the cluster.
+     * <p>
+     * Only used if the scheduler is clustered.
+     */
+    @ConfigItem(defaultValue = "20s")
+    public Duration clusterCheckinInterval;
+
     /**
      * By default, the scheduler is not started unless a {@link io.quarkus.scheduler.Scheduled} business method is found.
      * If set to true the scheduler will be started even if no scheduled business methods are found. This is necessary for
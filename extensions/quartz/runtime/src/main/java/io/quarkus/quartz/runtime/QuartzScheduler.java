@@ -53,7 +53,6 @@ import io.quarkus.scheduler.runtime.SchedulerSupport;
 public class QuartzScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(QuartzScheduler.class.getName());
-    private static final String INVOKER_KEY = "invoker";
 
     private final org.quartz.Scheduler scheduler;
     private final AtomicInteger triggerNameSequence;
@@ -90,14 +89,11 @@ public class QuartzScheduler implements Scheduler {
                 CronParser parser = new CronParser(def);
 
                 for (ScheduledMethodMetadata method : schedulerSupport.getScheduledMethods()) {
-
-                    invokers.put(method.getInvokerClassName(), schedulerSupport.createInvoker(method.getInvokerClassName()));
-
                     for (Scheduled scheduled : method.getSchedules()) {
                         String name = triggerNameSequence.getAndIncrement() + "_" + method.getInvokerClassName();
+                        invokers.put(name, schedulerSupport.createInvoker(method, scheduled));
                         JobBuilder jobBuilder = JobBuilder.newJob(InvokerJob.class)
                                 .withIdentity(name, Scheduler.class.getName())
-                                .usingJobData(INVOKER_KEY, method.getInvokerClassName())
                                 .requestRecovery();
                         ScheduleBuilder<?> scheduleBuilder;
 
@@ -231,25 +227,34 @@ public class QuartzScheduler implements Scheduler {
     private Properties getSchedulerConfigurationProperties(QuartzSupport quartzSupport) {
         Properties props = new Properties();
         QuartzBuildTimeConfig buildTimeConfig = quartzSupport.getBuildTimeConfig();
+        QuartzRuntimeConfig runtimeConfig = quartzSupport.getRuntimeConfig();
         props.put(StdSchedulerFactory.PROP_SCHED_INSTANCE_ID, "AUTO");
         props.put("org.quartz.scheduler.skipUpdateCheck", "true");
         props.put(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, "QuarkusQuartzScheduler");
         props.put(StdSchedulerFactory.PROP_SCHED_WRAP_JOB_IN_USER_TX, "false");
         props.put(StdSchedulerFactory.PROP_SCHED_SCHEDULER_THREADS_INHERIT_CONTEXT_CLASS_LOADER_OF_INITIALIZING_THREAD, "true");
         props.put(StdSchedulerFactory.PROP_THREAD_POOL_CLASS, "org.quartz.simpl.SimpleThreadPool");
-        props.put(StdSchedulerFactory.PROP_THREAD_POOL_PREFIX + ".threadCount",
-                "" + quartzSupport.getRuntimeConfig().threadCount);
-        props.put(StdSchedulerFactory.PROP_THREAD_POOL_PREFIX + ".threadPriority",
-                "" + quartzSupport.getRuntimeConfig().threadPriority);
+        props.put(StdSchedulerFactory.PROP_THREAD_POOL_PREFIX + ".threadCount", "" + runtimeConfig.threadCount);
+        props.put(StdSchedulerFactory.PROP_THREAD_POOL_PREFIX + ".threadPriority", "" + runtimeConfig.threadPriority);
+        props.put(StdSchedulerFactory.PROP_SCHED_MAX_BATCH_SIZE, "" + runtimeConfig.maxBatchSize);
+        props.put(StdSchedulerFactory.PROP_SCHED_BATCH_TIME_WINDOW,
+                "" + runtimeConfig.batchTriggerAcquisitionFireAheadTimeWindow.toMillis());
         props.put(StdSchedulerFactory.PROP_SCHED_RMI_EXPORT, "false");
         props.put(StdSchedulerFactory.PROP_SCHED_RMI_PROXY, "false");
-        props.put(StdSchedulerFactory.PROP_JOB_STORE_CLASS, buildTimeConfig.storeType.clazz);
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_CLASS,
+                buildTimeConfig.metricsEnabled ? buildTimeConfig.storeType.timedClazz : buildTimeConfig.storeType.clazz);
+        if (runtimeConfig.misfireThreshold.isPresent()) {
+            props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".misfireThreshold",
+                    "" + runtimeConfig.misfireThreshold.get().toMillis());
+        }
 
         if (buildTimeConfig.storeType == StoreType.DB) {
             String dataSource = buildTimeConfig.dataSourceName.orElse("QUARKUS_QUARTZ_DEFAULT_DATASOURCE");
             QuarkusQuartzConnectionPoolProvider.setDataSourceName(dataSource);
             props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".useProperties", "true");
-            props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".misfireThreshold", "60000");
+            if (!runtimeConfig.misfireThreshold.isPresent()) {
+                props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".misfireThreshold", "60000");
+            }
             props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".tablePrefix", "QRTZ_");
             props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".dataSource", dataSource);
             props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".driverDelegateClass",
@@ -258,7 +263,8 @@ public class QuartzScheduler implements Scheduler {
                     QuarkusQuartzConnectionPoolProvider.class.getName());
             if (buildTimeConfig.clustered) {
                 props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".isClustered", "true");
-                props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".clusterCheckinInterval", "20000"); // 20 seconds
+                props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".clusterCheckinInterval",
+                        "" + runtimeConfig.clusterCheckinInterval.toMillis());
             }
         }
 
@@ -294,8 +300,7 @@ public class QuartzScheduler implements Scheduler {
                     return context.getTrigger().getKey().toString();
                 }
             };
-            String invokerClass = context.getJobDetail().getJobDataMap().getString(INVOKER_KEY);
-            ScheduledInvoker scheduledInvoker = invokers.get(invokerClass);
+            ScheduledInvoker scheduledInvoker = invokers.get(context.getJobDetail().getKey().getName());
             if (scheduledInvoker != null) { // could be null from previous runs
                 scheduledInvoker.invoke(new ScheduledExecution() {
                     @Override
@@ -10,6 +10,7 @@ public class QuartzSupport {
     private volatile QuartzRuntimeConfig runtimeConfig;
     private volatile QuartzBuildTimeConfig buildTimeConfig;
     private volatile Optional<String> driverDialect;
+    private final TriggerAcquisitionStatistics triggerAcquisitionStatistics = new TriggerAcquisitionStatistics();
 
     void initialize(QuartzRuntimeConfig runTimeConfig, QuartzBuildTimeConfig buildTimeConfig, Optional<String> driverDialect) {
         this.runtimeConfig = runTimeConfig;
@@ -28,4 +29,8 @@ public class QuartzSupport {
     public Optional<String> getDriverDialect() {
         return driverDialect;
     }
+
+    public TriggerAcquisitionStatistics getTriggerAcquisitionStatistics() {
+        return triggerAcquisitionStatistics;
+    }
 }
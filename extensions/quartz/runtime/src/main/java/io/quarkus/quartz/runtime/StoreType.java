@@ -4,14 +4,19 @@ import org.quartz.impl.jdbcjobstore.JobStoreTX;
 import org.quartz.simpl.RAMJobStore;
 
 public enum StoreType {
-    RAM(RAMJobStore.class.getName(), RAMJobStore.class.getSimpleName()),
-    DB(JobStoreTX.class.getName(), JobStoreTX.class.getSimpleName());
+    RAM(RAMJobStore.class.getName(), RAMJobStore.class.getSimpleName(), TimedRAMJobStore.class.getName()),
+    DB(JobStoreTX.class.getName(), JobStoreTX.class.getSimpleName(), TimedJobStoreTX.class.getName());
 
     public String name;
     public String clazz;
+    /**
+     * The job store recording the {@link TriggerAcquisitionStatistics}.
+     */
+    public String timedClazz;
 
-    StoreType(String clazz, String name) {
+    StoreType(String clazz, String name, String timedClazz) {
         this.clazz = clazz;
         this.name = name;
+        this.timedClazz = timedClazz;
     }
 }
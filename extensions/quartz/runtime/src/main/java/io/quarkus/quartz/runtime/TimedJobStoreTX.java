@@ -0,0 +1,40 @@
+package io.quarkus.quartz.runtime;
+
+import java.util.List;
+
+import org.quartz.JobPersistenceException;
+import org.quartz.SchedulerConfigException;
+import org.quartz.impl.jdbcjobstore.JobStoreTX;
+import org.quartz.spi.ClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.SchedulerSignaler;
+
+import io.quarkus.arc.Arc;
+
+/**
+ * A {@link JobStoreTX} recording the {@link TriggerAcquisitionStatistics}.
+ * <p>
+ * The recorded time includes the time spent waiting for the trigger lock, which is usually the bottleneck of a clustered
+ * scheduler.
+ */
+public class TimedJobStoreTX extends JobStoreTX {
+
+    private TriggerAcquisitionStatistics statistics;
+
+    @Override
+    public void initialize(ClassLoadHelper classLoadHelper, SchedulerSignaler schedSignaler)
+            throws SchedulerConfigException {
+        statistics = Arc.container().instance(QuartzSupport.class).get().getTriggerAcquisitionStatistics();
+        super.initialize(classLoadHelper, schedSignaler);
+    }
+
+    @Override
+    public List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow)
+            throws JobPersistenceException {
+        long start = System.nanoTime();
+        List<OperableTrigger> triggers = super.acquireNextTriggers(noLaterThan, maxCount, timeWindow);
+        statistics.recordAcquisition(System.nanoTime() - start, triggers.size());
+        return triggers;
+    }
+
+}
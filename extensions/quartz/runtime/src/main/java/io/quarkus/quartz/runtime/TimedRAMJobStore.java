@@ -0,0 +1,33 @@
+package io.quarkus.quartz.runtime;
+
+import java.util.List;
+
+import org.quartz.simpl.RAMJobStore;
+import org.quartz.spi.ClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.SchedulerSignaler;
+
+import io.quarkus.arc.Arc;
+
+/**
+ * A {@link RAMJobStore} recording the {@link TriggerAcquisitionStatistics}.
+ */
+public class TimedRAMJobStore extends RAMJobStore {
+
+    private TriggerAcquisitionStatistics statistics;
+
+    @Override
+    public void initialize(ClassLoadHelper loadHelper, SchedulerSignaler signaler) {
+        statistics = Arc.container().instance(QuartzSupport.class).get().getTriggerAcquisitionStatistics();
+        super.initialize(loadHelper, signaler);
+    }
+
+    @Override
+    public List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow) {
+        long start = System.nanoTime();
+        List<OperableTrigger> triggers = super.acquireNextTriggers(noLaterThan, maxCount, timeWindow);
+        statistics.recordAcquisition(System.nanoTime() - start, triggers.size());
+        return triggers;
+    }
+
+}
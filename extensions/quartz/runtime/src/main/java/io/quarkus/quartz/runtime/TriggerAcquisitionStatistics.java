@@ -0,0 +1,45 @@
+package io.quarkus.quartz.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of trigger acquisitions from the job store.
+ *
+ * @see QuartzBuildTimeConfig#metricsEnabled
+ */
+public final class TriggerAcquisitionStatistics {
+
+    private final LongAdder acquisitionCount = new LongAdder();
+    private final LongAdder acquiredTriggerCount = new LongAdder();
+    private final LongAdder acquisitionTimeTotal = new LongAdder();
+    private final AtomicLong acquisitionTimeMax = new AtomicLong();
+
+    void recordAcquisition(long nanos, int acquiredTriggers) {
+        acquisitionCount.increment();
+        acquiredTriggerCount.add(acquiredTriggers);
+        acquisitionTimeTotal.add(nanos);
+        long max = acquisitionTimeMax.get();
+        while (nanos > max && !acquisitionTimeMax.compareAndSet(max, nanos)) {
+            max = acquisitionTimeMax.get();
+        }
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitionCount.sum();
+    }
+
+    public long getAcquiredTriggerCount() {
+        return acquiredTriggerCount.sum();
+    }
+
+    public Duration getAcquisitionTimeTotal() {
+        return Duration.ofNanos(acquisitionTimeTotal.sum());
+    }
+
+    public Duration getAcquisitionTimeMax() {
+        return Duration.ofNanos(acquisitionTimeMax.get());
+    }
+
+}
@@ -0,0 +1,68 @@
+package io.quarkus.quartz.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Counter;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.quartz.runtime.QuartzSupport;
+import io.quarkus.quartz.runtime.TriggerAcquisitionStatistics;
+
+public class QuartzCounter implements Counter {
+
+    private volatile TriggerAcquisitionStatistics statistics;
+    private String metric;
+
+    public QuartzCounter() {
+
+    }
+
+    /**
+     * @param metricName Name of the method from TriggerAcquisitionStatistics that should be called to retrieve the
+     *        particular value. This has nothing to do with the metric name from MP Metrics point of view!
+     */
+    public QuartzCounter(String metricName) {
+        this.metric = metricName;
+    }
+
+    private TriggerAcquisitionStatistics getStatistics() {
+        TriggerAcquisitionStatistics statisticsLocal = statistics;
+        if (statisticsLocal == null) {
+            synchronized (this) {
+                statisticsLocal = statistics;
+                if (statisticsLocal == null) {
+                    statistics = statisticsLocal = Arc.container().instance(QuartzSupport.class).get()
+                            .getTriggerAcquisitionStatistics();
+                }
+            }
+        }
+        return statisticsLocal;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public void inc() {
+    }
+
+    @Override
+    public void inc(long n) {
+    }
+
+    @Override
+    public long getCount() {
+        TriggerAcquisitionStatistics stats = getStatistics();
+        switch (metric) {
+            case "acquisitionCount":
+                return stats.getAcquisitionCount();
+            case "acquiredTriggerCount":
+                return stats.getAcquiredTriggerCount();
+            default:
+                throw new IllegalArgumentException("Unknown Quartz metric");
+        }
+    }
+}
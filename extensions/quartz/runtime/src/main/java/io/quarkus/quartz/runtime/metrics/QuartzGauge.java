@@ -0,0 +1,60 @@
+package io.quarkus.quartz.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Gauge;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.quartz.runtime.QuartzSupport;
+import io.quarkus.quartz.runtime.TriggerAcquisitionStatistics;
+
+public class QuartzGauge implements Gauge<Long> {
+
+    private volatile TriggerAcquisitionStatistics statistics;
+    private String metric;
+
+    public QuartzGauge() {
+
+    }
+
+    /**
+     * @param metricName Name of the method from TriggerAcquisitionStatistics that should be called to retrieve the
+     *        particular value. This has nothing to do with the metric name from MP Metrics point of view!
+     */
+    public QuartzGauge(String metricName) {
+        this.metric = metricName;
+    }
+
+    private TriggerAcquisitionStatistics getStatistics() {
+        TriggerAcquisitionStatistics statisticsLocal = statistics;
+        if (statisticsLocal == null) {
+            synchronized (this) {
+                statisticsLocal = statistics;
+                if (statisticsLocal == null) {
+                    statistics = statisticsLocal = Arc.container().instance(QuartzSupport.class).get()
+                            .getTriggerAcquisitionStatistics();
+                }
+            }
+        }
+        return statisticsLocal;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public Long getValue() {
+        TriggerAcquisitionStatistics stats = getStatistics();
+        switch (metric) {
+            case "acquisitionTimeTotal":
+                return stats.getAcquisitionTimeTotal().toMillis();
+            case "acquisitionTimeMax":
+                return stats.getAcquisitionTimeMax().toMillis();
+            default:
+                throw new IllegalArgumentException("Unknown Quartz metric");
+        }
+    }
+}
@@ -19,4 +19,13 @@ public class QuteConfig {
     @ConfigItem(defaultValue = "qute.html,qute.txt,html,txt")
     public List<String> suffixes;
 
+    /**
+     * The maximum number of characters buffered before the output is written when the rendered template is streamed, e.g.
+     * when a `TemplateInstance` is returned from a JAX-RS resource method.
+     * 
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "8192")
+    public int outputBufferSize;
+
 }
@@ -0,0 +1,130 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+public class StreamingTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(ReportResource.class)
+                    .addAsResource(new StringAsset("{#for item in items}<li>{item}</li>\n{/for}"),
+                            "templates/report.html")
+                    .addAsResource(new StringAsset("quarkus.qute.output-buffer-size=512"), "application.properties"));
+
+    @Test
+    public void testLargeOutputIsStreamed() {
+        Response response = when().get("/report");
+        response.then().statusCode(200).header("Content-Length", Matchers.nullValue());
+        String body = response.asString();
+        String expected = IntStream.range(0, 10_000).mapToObj(i -> "<li>" + item(i) + "</li>\n")
+                .collect(Collectors.joining());
+        assertEquals(expected, body);
+    }
+
+    @Test
+    public void testResolutionFailure() {
+        // the values are evaluated before the response is committed
+        when().get("/report/failing-evaluation").then().statusCode(500);
+    }
+
+    @Test
+    public void testConversionFailureAbortsResponse() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(
+                RestAssured.baseURI + ":" + RestAssured.port + "/report/failing-conversion").openConnection();
+        // the status and the first chunks are sent before the failing value is converted
+        assertEquals(200, connection.getResponseCode());
+        assertThrows(IOException.class, () -> {
+            try (InputStream in = connection.getInputStream()) {
+                byte[] buffer = new byte[8192];
+                while (in.read(buffer) != -1) {
+                    // consume the output
+                }
+            }
+        });
+    }
+
+    static String item(int index) {
+        // non-ASCII characters to verify the charset
+        return index + " \u017elu\u0165ou\u010dk\u00fd k\u016f\u0148";
+    }
+
+    @Path("report")
+    public static class ReportResource {
+
+        @Inject
+        Template report;
+
+        @Produces(MediaType.TEXT_HTML + ";charset=UTF-8")
+        @GET
+        public TemplateInstance get() {
+            return report.data("items",
+                    IntStream.range(0, 10_000).mapToObj(StreamingTemplateTest::item).collect(Collectors.toList()));
+        }
+
+        @Path("failing-evaluation")
+        @GET
+        public TemplateInstance failingEvaluation() {
+            return report.data("items", new FailingList());
+        }
+
+        @Path("failing-conversion")
+        @GET
+        public TemplateInstance failingConversion() {
+            List<Object> items = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                items.add(i == 5_000 ? new Failing() : item(i));
+            }
+            return report.data("items", items);
+        }
+
+    }
+
+    public static class FailingList extends ArrayList<Object> {
+
+        @Override
+        public Iterator<Object> iterator() {
+            throw new IllegalStateException("Failed");
+        }
+    }
+
+    public static class Failing {
+
+        @Override
+        public String toString() {
+            throw new IllegalStateException("Failed");
+        }
+    }
+
+}
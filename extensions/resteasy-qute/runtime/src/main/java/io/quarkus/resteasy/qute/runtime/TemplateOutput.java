@@ -0,0 +1,118 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import io.quarkus.qute.ResultNode;
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Writes a resolved template to the response output stream. The output is buffered up to the configured size and then
+ * written in chunks, so that the rendered template is never kept in memory as a whole. The backpressure is applied by the
+ * blocking output stream. The static text of a template is not encoded again if the UTF-8 charset is used.
+ * <p>
+ * The values of the template are converted to strings while the output is written. If a conversion fails once the first
+ * chunk was written, the status and headers are already sent: the response is then aborted so that the client can't
+ * mistake the truncated output for a complete response.
+ */
+class TemplateOutput implements StreamingOutput {
+
+    private final ResultNode result;
+    private final Charset charset;
+    private final int bufferSize;
+    private final RoutingContext routingContext;
+
+    TemplateOutput(ResultNode result, Charset charset, int bufferSize, RoutingContext routingContext) {
+        this.result = result;
+        this.charset = charset;
+        this.bufferSize = bufferSize;
+        this.routingContext = routingContext;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        CommitTrackingOutputStream tracking = new CommitTrackingOutputStream(output);
+        try {
+            process(tracking);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            if (tracking.committed) {
+                abort();
+            }
+            throw e;
+        }
+    }
+
+    private void process(OutputStream output) throws IOException {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            // Blocking writes are not allowed on the IO thread, the buffer is unbounded and written at once
+            Utf8Output utf8Output = new Utf8Output(output, bufferSize, !Context.isOnEventLoopThread());
+            result.process(utf8Output);
+            utf8Output.flush();
+            return;
+        }
+        if (Context.isOnEventLoopThread()) {
+            // blocking writes are not allowed on the IO thread, write the whole output at once
+            StringBuilder builder = new StringBuilder();
+            result.process(builder::append);
+            output.write(builder.toString().getBytes(charset));
+            return;
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, charset), bufferSize);
+        result.process(part -> {
+            try {
+                writer.write(part);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void abort() {
+        if (routingContext == null) {
+            return;
+        }
+        HttpServerRequest request = routingContext.request();
+        if (request.version() == HttpVersion.HTTP_2) {
+            request.response().reset();
+        } else {
+            request.connection().close();
+        }
+    }
+
+    private static class CommitTrackingOutputStream extends FilterOutputStream {
+
+        private boolean committed;
+
+        CommitTrackingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            committed = true;
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            committed = true;
+            out.write(b, off, len);
+        }
+    }
+
+}
@@ -4,6 +4,8 @@ import static io.quarkus.qute.api.VariantTemplate.SELECTED_VARIANT;
 import static io.quarkus.qute.api.VariantTemplate.VARIANTS;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,15 +16,22 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.Provider;
 
+import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.core.interception.jaxrs.SuspendableContainerResponseContext;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.quarkus.qute.api.VariantTemplate;
+import io.quarkus.qute.runtime.QuteRecorder.QuteContext;
+import io.vertx.ext.web.RoutingContext;
 
 @Provider
 public class TemplateResponseFilter implements ContainerResponseFilter {
 
+    private volatile int outputBufferSize;
+
     @Override
     public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
             throws IOException {
@@ -54,19 +63,24 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
                 mediaType = null;
             }
 
+            // not available in the servlet deployment
+            RoutingContext routingContext = ResteasyContext.getContextData(RoutingContext.class);
             try {
-                rendering.renderAsync()
+                // resolve the template asynchronously, the output is then streamed when the response is written
+                rendering.resolve()
                         .whenComplete((r, t) -> {
                             if (t == null) {
-                                Response resp = Response.ok(r, mediaType).build();
+                                MediaType outputMediaType = mediaType != null ? mediaType : ctx.getMediaType();
+                                TemplateOutput output = new TemplateOutput(r, getCharset(outputMediaType),
+                                        getOutputBufferSize(), routingContext);
                                 // make sure we avoid setting a null media type because that causes
                                 // an NPE further down
-                                if (resp.getMediaType() != null) {
-                                    ctx.setEntity(resp.getEntity(), null, resp.getMediaType());
+                                if (mediaType != null) {
+                                    ctx.setEntity(output, null, mediaType);
                                 } else {
-                                    ctx.setEntity(resp.getEntity());
+                                    ctx.setEntity(output);
                                 }
-                                ctx.setStatus(resp.getStatus());
+                                ctx.setStatus(Response.Status.OK.getStatusCode());
                                 ctx.resume();
                             } else {
                                 ctx.resume(t);
@@ -77,4 +91,25 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
             }
         }
     }
+
+    private static Charset getCharset(MediaType mediaType) {
+        if (mediaType != null) {
+            String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+            if (charset != null) {
+                return Charset.forName(charset);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private int getOutputBufferSize() {
+        int size = outputBufferSize;
+        if (size == 0) {
+            try (InstanceHandle<QuteContext> context = Arc.container().instance(QuteContext.class)) {
+                size = context.get().getConfig().outputBufferSize;
+            }
+            outputBufferSize = size;
+        }
+        return size;
+    }
 }
@@ -0,0 +1,66 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.quarkus.qute.Utf8Consumer;
+
+/**
+ * Collects the UTF-8 encoded output in a byte buffer. The static text of a template is copied as is, i.e. it's not encoded
+ * again. If the buffer is bounded, the content is written to the output stream whenever the buffer is full.
+ */
+class Utf8Output implements Utf8Consumer {
+
+    private final OutputStream output;
+    private final boolean bounded;
+    private byte[] buffer;
+    private int position;
+
+    Utf8Output(OutputStream output, int bufferSize, boolean bounded) {
+        this.output = output;
+        this.bounded = bounded;
+        this.buffer = new byte[Math.max(bufferSize, 16)];
+    }
+
+    @Override
+    public void accept(String value) {
+        write(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void accept(String value, byte[] utf8) {
+        write(utf8);
+    }
+
+    void flush() throws IOException {
+        if (position > 0) {
+            output.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private void write(byte[] bytes) {
+        if (bytes.length > buffer.length - position) {
+            if (bounded) {
+                try {
+                    flush();
+                    if (bytes.length >= buffer.length) {
+                        // Do not copy large segments
+                        output.write(bytes);
+                        return;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            } else {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + bytes.length));
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+}
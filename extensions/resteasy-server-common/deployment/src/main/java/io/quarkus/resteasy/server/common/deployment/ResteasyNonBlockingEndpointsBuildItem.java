@@ -0,0 +1,35 @@
+package io.quarkus.resteasy.server.common.deployment;
+
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * A build item that lists the JAX-RS endpoints which can be dispatched on the IO thread because they never block.
+ * <p>
+ * Each endpoint is described as {@code <HTTP method> <path template>}, the path template being relative to the JAX-RS
+ * application path. The blocking endpoints are listed as well so that a request is only dispatched on the IO thread if it
+ * cannot match any blocking endpoint. Sub-resource locators are described with the {@code *} HTTP method and match any path
+ * starting with their template.
+ */
+public final class ResteasyNonBlockingEndpointsBuildItem extends SimpleBuildItem {
+
+    public static final String ANY_METHOD = "*";
+
+    private final Set<String> nonBlockingEndpoints;
+
+    private final Set<String> blockingEndpoints;
+
+    public ResteasyNonBlockingEndpointsBuildItem(Set<String> nonBlockingEndpoints, Set<String> blockingEndpoints) {
+        this.nonBlockingEndpoints = nonBlockingEndpoints;
+        this.blockingEndpoints = blockingEndpoints;
+    }
+
+    public Set<String> getNonBlockingEndpoints() {
+        return nonBlockingEndpoints;
+    }
+
+    public Set<String> getBlockingEndpoints() {
+        return blockingEndpoints;
+    }
+}
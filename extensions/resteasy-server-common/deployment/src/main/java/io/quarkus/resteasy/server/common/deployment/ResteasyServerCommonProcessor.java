@@ -89,6 +89,14 @@ public class ResteasyServerCommonProcessor {
 
     private static final DotName JSONB_ANNOTATION = DotName.createSimple("javax.json.bind.annotation.JsonbAnnotation");
 
+    private static final DotName BLOCKING = DotName.createSimple("io.quarkus.resteasy.Blocking");
+    private static final DotName NON_BLOCKING = DotName.createSimple("io.quarkus.resteasy.NonBlocking");
+
+    private static final Set<DotName> ASYNC_RETURN_TYPES = new HashSet<>(Arrays.asList(
+            DotName.createSimple("java.util.concurrent.CompletionStage"),
+            DotName.createSimple("java.util.concurrent.CompletableFuture"),
+            DotName.createSimple("io.smallrye.mutiny.Uni")));
+
     private static final DotName[] METHOD_ANNOTATIONS = {
             ResteasyDotNames.GET,
             ResteasyDotNames.HEAD,
@@ -148,6 +156,16 @@ public class ResteasyServerCommonProcessor {
         @ConfigItem(name = "metrics.enabled", defaultValue = "false")
         public boolean metricsEnabled;
 
+        /**
+         * Whether the resource methods returning a {@code CompletionStage} or a {@code Uni} should be considered non-blocking
+         * and dispatched on the IO thread when RESTEasy runs on Vert.x, like the methods annotated with
+         * {@code io.quarkus.resteasy.NonBlocking}. Such methods must never block, not even before returning their
+         * asynchronous result. The methods annotated with {@code io.quarkus.resteasy.Blocking} are always dispatched on a
+         * worker thread.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean nonBlockingAsyncMethods;
+
     }
 
     @BuildStep
@@ -167,6 +185,7 @@ public class ResteasyServerCommonProcessor {
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             BuildProducer<ResteasyServerConfigBuildItem> resteasyServerConfig,
             BuildProducer<ResteasyDeploymentBuildItem> resteasyDeployment,
+            BuildProducer<ResteasyNonBlockingEndpointsBuildItem> nonBlockingEndpoints,
             BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
             BuildProducer<AnnotationsTransformerBuildItem> annotationsTransformer,
             List<AutoInjectAnnotationBuildItem> autoInjectAnnotations,
@@ -374,6 +393,7 @@ public class ResteasyServerCommonProcessor {
             }
         }));
         resteasyDeployment.produce(new ResteasyDeploymentBuildItem(path, deployment));
+        nonBlockingEndpoints.produce(findNonBlockingEndpoints(index, scannedResources.values()));
     }
 
     @BuildStep
@@ -449,9 +469,129 @@ public class ResteasyServerCommonProcessor {
             } else {
                 // if running with vert.x, use the MetricsFilter implementation from Quarkus codebase
                 jaxRsProviders.produce(
-                        new ResteasyJaxrsProviderBuildItem("io.quarkus.smallrye.metrics.runtime.QuarkusJaxRsMetricsFilter"));
+                        new ResteasyJaxrsProviderBuildItem(
+                                "io.quarkus.smallrye.metrics.runtime.QuarkusJaxRsMetricsDynamicFeature"));
+            }
+        }
+    }
+
+    /**
+     * Finds the endpoints of the resource classes which can be dispatched on the IO thread. Sub-resources are always
+     * considered blocking as their methods are only known at runtime.
+     */
+    private ResteasyNonBlockingEndpointsBuildItem findNonBlockingEndpoints(IndexView index, Collection<ClassInfo> resources) {
+        Set<String> nonBlockingEndpoints = new HashSet<>();
+        Set<String> blockingEndpoints = new HashSet<>();
+        for (ClassInfo resource : resources) {
+            String classPath = findClassPath(index, resource);
+            if (classPath == null) {
+                continue;
+            }
+            Set<String> visitedMethods = new HashSet<>();
+            List<ClassInfo> hierarchy = new ArrayList<>();
+            hierarchy.add(resource);
+            // the hierarchy list grows while it's being iterated: superclasses and interfaces are visited after the resource
+            for (int i = 0; i < hierarchy.size(); i++) {
+                ClassInfo clazz = hierarchy.get(i);
+                for (MethodInfo method : clazz.methods()) {
+                    List<String> httpMethods = new ArrayList<>();
+                    for (DotName methodAnnotation : METHOD_ANNOTATIONS) {
+                        if (method.hasAnnotation(methodAnnotation)) {
+                            httpMethods.add(methodAnnotation.withoutPackagePrefix());
+                        }
+                    }
+                    AnnotationInstance methodPath = method.annotation(ResteasyDotNames.PATH);
+                    if ((httpMethods.isEmpty() && methodPath == null)
+                            || !visitedMethods.add(method.name() + method.parameters())) {
+                        continue;
+                    }
+                    String template = methodPath == null ? classPath
+                            : normalizePathTemplate(classPath + "/" + methodPath.value().asString());
+                    if (httpMethods.isEmpty()) {
+                        // sub-resource locator
+                        blockingEndpoints.add(ResteasyNonBlockingEndpointsBuildItem.ANY_METHOD + " " + template);
+                        continue;
+                    }
+                    // the annotations of an overriding method declared by the resource class itself take precedence
+                    MethodInfo declaration = resource.method(method.name(), method.parameters().toArray(new Type[0]));
+                    if (declaration == null) {
+                        declaration = method;
+                    }
+                    boolean nonBlocking = isNonBlocking(resource, declaration);
+                    for (String httpMethod : httpMethods) {
+                        (nonBlocking ? nonBlockingEndpoints : blockingEndpoints).add(httpMethod + " " + template);
+                    }
+                }
+                if (clazz.superName() != null && !clazz.superName().equals(DotNames.OBJECT)) {
+                    addIfIndexed(index, clazz.superName(), hierarchy);
+                }
+                for (DotName interfaceName : clazz.interfaceNames()) {
+                    addIfIndexed(index, interfaceName, hierarchy);
+                }
             }
         }
+        nonBlockingEndpoints.removeAll(blockingEndpoints);
+        return new ResteasyNonBlockingEndpointsBuildItem(nonBlockingEndpoints, blockingEndpoints);
+    }
+
+    private boolean isNonBlocking(ClassInfo resource, MethodInfo method) {
+        if (method.hasAnnotation(BLOCKING)) {
+            return false;
+        }
+        if (method.hasAnnotation(NON_BLOCKING)) {
+            return true;
+        }
+        if (resource.classAnnotation(BLOCKING) != null) {
+            return false;
+        }
+        if (resource.classAnnotation(NON_BLOCKING) != null) {
+            return true;
+        }
+        return resteasyConfig.nonBlockingAsyncMethods && ASYNC_RETURN_TYPES.contains(method.returnType().name());
+    }
+
+    private static String findClassPath(IndexView index, ClassInfo resource) {
+        AnnotationInstance path = resource.classAnnotation(ResteasyDotNames.PATH);
+        if (path == null) {
+            // @Path interface implementor
+            for (DotName interfaceName : resource.interfaceNames()) {
+                ClassInfo pathInterface = index.getClassByName(interfaceName);
+                if (pathInterface != null) {
+                    path = pathInterface.classAnnotation(ResteasyDotNames.PATH);
+                    if (path != null) {
+                        break;
+                    }
+                }
+            }
+        }
+        return path == null ? null : normalizePathTemplate(path.value().asString());
+    }
+
+    private static String normalizePathTemplate(String template) {
+        // collapse the duplicate slashes outside of the template parameters, which may contain regular expressions
+        StringBuilder normalized = new StringBuilder("/");
+        int depth = 0;
+        for (char c : template.toCharArray()) {
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            } else if (c == '/' && depth == 0 && normalized.charAt(normalized.length() - 1) == '/') {
+                continue;
+            }
+            normalized.append(c);
+        }
+        if (normalized.length() > 1 && normalized.charAt(normalized.length() - 1) == '/') {
+            normalized.setLength(normalized.length() - 1);
+        }
+        return normalized.toString();
+    }
+
+    private static void addIfIndexed(IndexView index, DotName name, List<ClassInfo> classes) {
+        ClassInfo clazz = index.getClassByName(name);
+        if (clazz != null && !classes.contains(clazz)) {
+            classes.add(clazz);
+        }
     }
 
     private boolean hasAutoInjectAnnotation(Set<DotName> autoInjectAnnotationNames, ClassInfo clazz) {
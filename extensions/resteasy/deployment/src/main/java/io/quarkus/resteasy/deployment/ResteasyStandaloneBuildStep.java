@@ -30,6 +30,7 @@ import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
+import io.quarkus.resteasy.server.common.deployment.ResteasyNonBlockingEndpointsBuildItem;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
 import io.quarkus.vertx.http.deployment.RequireVirtualHttpBuildItem;
@@ -64,6 +65,7 @@ public class ResteasyStandaloneBuildStep {
     public void staticInit(ResteasyStandaloneRecorder recorder,
             Capabilities capabilities,
             ResteasyDeploymentBuildItem deployment,
+            ResteasyNonBlockingEndpointsBuildItem nonBlockingEndpoints,
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
             ResteasyInjectionReadyBuildItem resteasyInjectionReady,
             HttpBuildTimeConfig httpConfig,
@@ -91,7 +93,12 @@ public class ResteasyStandaloneBuildStep {
                 }
                 rootPath += deploymentRootPath;
             }
-            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths);
+            if (nonBlockingEndpoints != null) {
+                recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths,
+                        nonBlockingEndpoints.getNonBlockingEndpoints(), nonBlockingEndpoints.getBlockingEndpoints());
+            } else {
+                recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths);
+            }
 
         } else if (!knownPaths.isEmpty()) {
             recorder.staticInit(null, rootPath, knownPaths);
@@ -0,0 +1,77 @@
+package io.quarkus.resteasy.test;
+
+import java.util.function.Consumer;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
+import io.restassured.RestAssured;
+
+/**
+ * Tests the request body handling when the whole body has already been read by the Vert.x body handler.
+ */
+public class BodyHandlerPostTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(EchoResource.class))
+            .addBuildChainCustomizer(new Consumer<BuildChainBuilder>() {
+                @Override
+                public void accept(BuildChainBuilder builder) {
+                    builder.addBuildStep(new BuildStep() {
+                        @Override
+                        public void execute(BuildContext context) {
+                            context.produce(new RequireBodyHandlerBuildItem());
+                        }
+                    }).produces(RequireBodyHandlerBuildItem.class).build();
+                }
+            });
+
+    @Test
+    public void testSmallBody() {
+        RestAssured.given().body("Stuart")
+                .post("/echo")
+                .then().statusCode(200).body(Matchers.equalTo("Hello: Stuart"));
+    }
+
+    @Test
+    public void testLargeBody() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.append(i % 10);
+        }
+        RestAssured.given().body(sb.toString())
+                .post("/echo")
+                .then().statusCode(200).body(Matchers.equalTo("Hello: " + sb));
+    }
+
+    @Test
+    public void testSequentialRequests() {
+        for (int i = 0; i < 10; i++) {
+            RestAssured.given().body("body" + i)
+                    .post("/echo")
+                    .then().statusCode(200).body(Matchers.equalTo("Hello: body" + i));
+        }
+    }
+
+    @Path("/echo")
+    public static class EchoResource {
+
+        @POST
+        public String echo(String data) {
+            return "Hello: " + data;
+        }
+    }
+}
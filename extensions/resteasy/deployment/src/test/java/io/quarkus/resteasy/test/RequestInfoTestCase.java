@@ -0,0 +1,125 @@
+package io.quarkus.resteasy.test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.UriInfo;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests the request information which is extracted lazily from the Vert.x request.
+ */
+public class RequestInfoTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RequestInfoResource.class));
+
+    @Test
+    public void testHeaders() {
+        RestAssured.given().header("X-Test", "a", "b").cookie("flavour", "chocolate")
+                .get("/request-info/headers")
+                .then().statusCode(200).body(Matchers.is("[a, b]:a:chocolate"));
+    }
+
+    @Test
+    public void testMutableHeaders() {
+        RestAssured.given().header("X-Test", "a", "b").header("X-Other", "c")
+                .get("/request-info/mutable-headers")
+                .then().statusCode(200).body(Matchers.is("[a, b, z]:[d]"));
+    }
+
+    @Test
+    public void testUri() {
+        // the same path twice to go through the cached path data
+        for (int i = 0; i < 2; i++) {
+            RestAssured.get("/request-info/uri/foo")
+                    .then().statusCode(200).body(Matchers.is("/request-info/uri/foo:foo:{}"));
+            RestAssured.get("/request-info/uri/foo?q=bar")
+                    .then().statusCode(200).body(Matchers.is("/request-info/uri/foo:foo:{q=[bar]}"));
+        }
+    }
+
+    @Test
+    public void testSecurityContextAndRemoteAddress() {
+        RestAssured.given().header("Authorization", "Custom abc")
+                .get("/request-info/security")
+                .then().statusCode(200).body(Matchers.is("false:Custom:true"));
+    }
+
+    @Test
+    public void testSecurityContextOffThread() {
+        RestAssured.given().header("Authorization", "Custom abc")
+                .get("/request-info/security-async")
+                .then().statusCode(200).body(Matchers.is("false:Custom"));
+    }
+
+    @Path("/request-info")
+    public static class RequestInfoResource {
+
+        @GET
+        @Path("headers")
+        public String headers(@Context HttpHeaders headers) {
+            return headers.getRequestHeader("x-TEST") + ":" + headers.getHeaderString("X-Test").split(",")[0] + ":"
+                    + headers.getCookies().get("flavour").getValue();
+        }
+
+        @GET
+        @Path("mutable-headers")
+        public String mutableHeaders(@Context HttpRequest request) {
+            MultivaluedMap<String, String> headers = request.getMutableHeaders();
+            // the value lists write through to the request headers
+            headers.get("x-test").add("z");
+            for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+                if (entry.getKey().equalsIgnoreCase("X-Other")) {
+                    entry.getValue().set(0, "d");
+                }
+            }
+            return request.getHttpHeaders().getRequestHeader("X-Test") + ":"
+                    + request.getHttpHeaders().getRequestHeader("X-Other");
+        }
+
+        @GET
+        @Path("uri/{name}")
+        public String uri(@Context UriInfo uriInfo, @PathParam("name") String name) {
+            return uriInfo.getPath() + ":" + name + ":" + uriInfo.getQueryParameters();
+        }
+
+        @GET
+        @Path("security")
+        public String security(@Context SecurityContext securityContext, @Context HttpRequest request) {
+            return securityContext.isSecure() + ":" + securityContext.getAuthenticationScheme() + ":"
+                    + (request.getRemoteAddress() != null);
+        }
+
+        @GET
+        @Path("security-async")
+        public CompletionStage<String> securityAsync() {
+            // the security context instance of the request is used once the request has left the dispatching thread
+            SecurityContext securityContext = ResteasyContext.getContextData(SecurityContext.class);
+            return CompletableFuture.supplyAsync(
+                    () -> securityContext.isSecure() + ":" + securityContext.getAuthenticationScheme(),
+                    command -> new Thread(command).start());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.quarkus.resteasy.test.compress;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.Compressed;
+import io.quarkus.vertx.http.Uncompressed;
+import io.restassured.response.Response;
+
+public class CompressionTestCase {
+
+    static final String LARGE_BODY = largeBody();
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CompressionResource.class)
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true"), "application.properties"));
+
+    @Test
+    public void testCompression() {
+        assertCompressed("/compression/default", true, LARGE_BODY);
+        assertCompressed("/compression/small", false, "small");
+        assertCompressed("/compression/compressed", true, "small");
+        assertCompressed("/compression/uncompressed", false, LARGE_BODY);
+    }
+
+    static void assertCompressed(String path, boolean compressed, String expectedBody) {
+        Response response = given().header("Accept-Encoding", "gzip").get(path);
+        response.then().statusCode(200);
+        if (compressed) {
+            assertEquals("gzip", response.header("Content-Encoding"));
+        } else {
+            assertNotEquals("gzip", response.header("Content-Encoding"));
+        }
+        assertEquals(expectedBody, response.asString());
+    }
+
+    static String largeBody() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            builder.append("compress me ");
+        }
+        return builder.toString();
+    }
+
+    @Path("/compression")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class CompressionResource {
+
+        @GET
+        @Path("default")
+        public String defaultCompression() {
+            return LARGE_BODY;
+        }
+
+        @GET
+        @Path("small")
+        public String small() {
+            return "small";
+        }
+
+        @Compressed
+        @GET
+        @Path("compressed")
+        public String compressed() {
+            return "small";
+        }
+
+        @Uncompressed
+        @GET
+        @Path("uncompressed")
+        public String uncompressed() {
+            return LARGE_BODY;
+        }
+
+    }
+}
@@ -0,0 +1,169 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.Blocking;
+import io.quarkus.resteasy.NonBlocking;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.core.Context;
+
+public class NonBlockingEndpointTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ThreadResource.class, NonBlockingResource.class)
+                    .addAsResource(new StringAsset("quarkus.resteasy.non-blocking-async-methods=true"),
+                            "application.properties"));
+
+    @Test
+    public void testNonBlockingMethod() {
+        RestAssured.get("/thread/non-blocking").then().statusCode(200).body(Matchers.is("true"));
+        RestAssured.get("/thread/non-blocking/foo").then().statusCode(200).body(Matchers.is("foo:true"));
+    }
+
+    @Test
+    public void testBlockingMethod() {
+        RestAssured.get("/thread/blocking").then().statusCode(200).body(Matchers.is("false"));
+        RestAssured.get("/thread/default").then().statusCode(200).body(Matchers.is("false"));
+    }
+
+    @Test
+    public void testAsyncMethod() {
+        RestAssured.get("/thread/async").then().statusCode(200).body(Matchers.is("true"));
+        RestAssured.get("/thread/async-blocking").then().statusCode(200).body(Matchers.is("false"));
+    }
+
+    @Test
+    public void testLargeResponse() throws IOException, InterruptedException {
+        // the client doesn't read the response at first so that it fills the write queue of the connection
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(1024);
+            socket.setSoTimeout(10000);
+            socket.connect(new InetSocketAddress(RestAssured.baseURI.replace("http://", ""), RestAssured.port));
+            socket.getOutputStream().write("GET /thread/non-blocking/large HTTP/1.0\r\n\r\n"
+                    .getBytes(StandardCharsets.US_ASCII));
+            Thread.sleep(500);
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            InputStream in = socket.getInputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                response.write(buffer, 0, read);
+            }
+            String body = response.toString("US-ASCII");
+            body = body.substring(body.indexOf("\r\n\r\n") + 4);
+            Assertions.assertEquals(ThreadResource.LARGE_RESPONSE_SIZE, body.length());
+            Assertions.assertTrue(body.chars().allMatch(c -> c == 'a'));
+        }
+    }
+
+    @Test
+    public void testNonBlockingClass() {
+        RestAssured.get("/non-blocking").then().statusCode(200).body(Matchers.is("true"));
+        RestAssured.get("/non-blocking/blocking").then().statusCode(200).body(Matchers.is("false"));
+    }
+
+    @Path("/thread")
+    public static class ThreadResource {
+
+        static final int LARGE_RESPONSE_SIZE = 16 * 1024 * 1024;
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking")
+        public String nonBlocking() {
+            return String.valueOf(Context.isOnEventLoopThread());
+        }
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking/{name}")
+        public String nonBlocking(@PathParam("name") String name) {
+            return name + ":" + Context.isOnEventLoopThread();
+        }
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking/large")
+        public StreamingOutput large() {
+            // the output is written in chunks through the blocking stream
+            return new StreamingOutput() {
+                @Override
+                public void write(OutputStream output) throws IOException {
+                    byte[] chunk = new byte[8192];
+                    Arrays.fill(chunk, (byte) 'a');
+                    for (int i = 0; i < LARGE_RESPONSE_SIZE / chunk.length; i++) {
+                        output.write(chunk);
+                    }
+                }
+            };
+        }
+
+        @Blocking
+        @GET
+        @Path("blocking")
+        public String blocking() {
+            return String.valueOf(Context.isOnEventLoopThread());
+        }
+
+        @GET
+        @Path("default")
+        public String defaultMethod() {
+            return String.valueOf(Context.isOnEventLoopThread());
+        }
+
+        @GET
+        @Path("async")
+        public CompletionStage<String> async() {
+            return CompletableFuture.completedFuture(String.valueOf(Context.isOnEventLoopThread()));
+        }
+
+        @Blocking
+        @GET
+        @Path("async-blocking")
+        public CompletionStage<String> asyncBlocking() {
+            return CompletableFuture.completedFuture(String.valueOf(Context.isOnEventLoopThread()));
+        }
+    }
+
+    @NonBlocking
+    @Path("/non-blocking")
+    public static class NonBlockingResource {
+
+        @GET
+        public String nonBlocking() {
+            return String.valueOf(Context.isOnEventLoopThread());
+        }
+
+        @Blocking
+        @GET
+        @Path("blocking")
+        public String blocking() {
+            return String.valueOf(Context.isOnEventLoopThread());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.resteasy;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JAX-RS resource method, or all the resource methods of a class, as blocking. The requests matching such a method
+ * are always dispatched on a worker thread, even if the method returns a {@code CompletionStage} or a {@code Uni} and the
+ * {@code quarkus.resteasy.non-blocking-async-methods} configuration property is enabled.
+ *
+ * @see NonBlocking
+ */
+@Retention(RUNTIME)
+@Target({ METHOD, TYPE })
+public @interface Blocking {
+}
@@ -0,0 +1,24 @@
+package io.quarkus.resteasy;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JAX-RS resource method, or all the resource methods of a class, as non-blocking. When RESTEasy runs on Vert.x, the
+ * requests matching such a method are dispatched directly on the IO thread instead of being handed to a worker thread, which
+ * saves a thread switch per request.
+ * <p>
+ * A non-blocking method must never block the calling thread. It typically returns a {@code CompletionStage} or a {@code Uni}
+ * completed by an asynchronous client. Requests whose body has not been fully received yet are always dispatched on a worker
+ * thread, since reading the body may block.
+ *
+ * @see Blocking
+ */
+@Retention(RUNTIME)
+@Target({ METHOD, TYPE })
+public @interface NonBlocking {
+}
@@ -0,0 +1,57 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.core.ResteasyContext;
+
+import io.quarkus.vertx.http.Compressed;
+import io.quarkus.vertx.http.Uncompressed;
+import io.quarkus.vertx.http.runtime.HttpCompressionHandler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Forces or disables the HTTP compression of the responses of resource methods annotated with {@link Compressed} or
+ * {@link Uncompressed}.
+ */
+@Provider
+public class CompressionFeature implements DynamicFeature {
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        Method method = resourceInfo.getResourceMethod();
+        if (method.isAnnotationPresent(Compressed.class)) {
+            context.register(new CompressionFilter(true));
+        } else if (method.isAnnotationPresent(Uncompressed.class)) {
+            context.register(new CompressionFilter(false));
+        } else if (resourceInfo.getResourceClass().isAnnotationPresent(Compressed.class)) {
+            context.register(new CompressionFilter(true));
+        } else if (resourceInfo.getResourceClass().isAnnotationPresent(Uncompressed.class)) {
+            context.register(new CompressionFilter(false));
+        }
+    }
+
+    static class CompressionFilter implements ContainerRequestFilter {
+
+        private final boolean compress;
+
+        CompressionFilter(boolean compress) {
+            this.compress = compress;
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+            RoutingContext routingContext = ResteasyContext.getContextData(RoutingContext.class);
+            if (routingContext != null) {
+                HttpCompressionHandler.setCompressed(routingContext, compress);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Decides whether a request can be dispatched on the IO thread, based on the endpoints discovered at build time.
+ * <p>
+ * A request is only considered non-blocking if it matches a non-blocking endpoint and none of the blocking endpoints. This
+ * check is deliberately conservative since it doesn't replicate the JAX-RS matching algorithm: when in doubt, the request is
+ * dispatched on a worker thread.
+ */
+public class NonBlockingEndpointMatcher {
+
+    static final String ANY_METHOD = "*";
+
+    private final Endpoints nonBlocking;
+    private final Endpoints blocking;
+
+    /**
+     * @param nonBlockingEndpoints endpoints described as {@code <HTTP method> <path template>}
+     * @param blockingEndpoints endpoints described as {@code <HTTP method> <path template>}, the {@code *} method denoting
+     *        a sub-resource locator
+     */
+    public NonBlockingEndpointMatcher(Collection<String> nonBlockingEndpoints, Collection<String> blockingEndpoints) {
+        this.nonBlocking = new Endpoints(nonBlockingEndpoints);
+        this.blocking = new Endpoints(blockingEndpoints);
+    }
+
+    /**
+     * @param method HTTP method of the request
+     * @param path request path, relative to the JAX-RS application path
+     * @return {@code true} if the request can be dispatched on the IO thread
+     */
+    public boolean isNonBlocking(String method, String path) {
+        if (path.length() > 1 && path.charAt(path.length() - 1) == '/') {
+            path = path.substring(0, path.length() - 1);
+        }
+        return nonBlocking.matches(method, path) && !blocking.matches(method, path);
+    }
+
+    private static class Endpoints {
+
+        // templates without any parameter are matched with a simple lookup
+        private final Set<String> exact = new HashSet<>();
+        private final List<Template> templates = new ArrayList<>();
+
+        Endpoints(Collection<String> endpoints) {
+            for (String endpoint : endpoints) {
+                int separator = endpoint.indexOf(' ');
+                String method = endpoint.substring(0, separator);
+                String template = endpoint.substring(separator + 1);
+                boolean locator = ANY_METHOD.equals(method);
+                if (!locator && template.indexOf('{') == -1) {
+                    exact.add(method + " " + template);
+                } else {
+                    templates.add(new Template(method, compile(template, locator)));
+                }
+            }
+        }
+
+        boolean matches(String method, String path) {
+            if (!exact.isEmpty() && exact.contains(method + " " + path)) {
+                return true;
+            }
+            for (Template template : templates) {
+                if ((template.method.equals(ANY_METHOD) || template.method.equals(method))
+                        && template.pattern.matcher(path).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class Template {
+
+        final String method;
+        final Pattern pattern;
+
+        Template(String method, Pattern pattern) {
+            this.method = method;
+            this.pattern = pattern;
+        }
+    }
+
+    static Pattern compile(String template, boolean prefix) {
+        if (prefix && template.equals("/")) {
+            return Pattern.compile("/.*");
+        }
+        StringBuilder regex = new StringBuilder();
+        int literalStart = 0;
+        int i = 0;
+        while (i < template.length()) {
+            if (template.charAt(i) != '{') {
+                i++;
+                continue;
+            }
+            if (i > literalStart) {
+                regex.append(Pattern.quote(template.substring(literalStart, i)));
+            }
+            // find the matching closing brace, a parameter regular expression may contain braces as well
+            int depth = 1;
+            int end = i + 1;
+            while (end < template.length() && depth > 0) {
+                char c = template.charAt(end);
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    depth--;
+                }
+                end++;
+            }
+            String param = template.substring(i + 1, end - 1);
+            int colon = param.indexOf(':');
+            if (colon == -1) {
+                regex.append("[^/]+");
+            } else {
+                regex.append('(').append(param.substring(colon + 1).trim()).append(')');
+            }
+            i = end;
+            literalStart = end;
+        }
+        if (literalStart < template.length()) {
+            regex.append(Pattern.quote(template.substring(literalStart)));
+        }
+        if (prefix) {
+            regex.append("(/.*)?");
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
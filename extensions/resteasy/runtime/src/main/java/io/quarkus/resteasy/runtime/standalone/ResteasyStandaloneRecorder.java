@@ -2,6 +2,7 @@ package io.quarkus.resteasy.runtime.standalone;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -79,14 +80,21 @@ public class ResteasyStandaloneRecorder {
     private static ResteasyDeployment deployment;
     private static Set<String> knownPaths;
     private static String contextPath;
+    private static NonBlockingEndpointMatcher nonBlockingEndpoints;
 
     public void staticInit(ResteasyDeployment dep, String path, Set<String> known) {
+        staticInit(dep, path, known, Collections.emptySet(), Collections.emptySet());
+    }
+
+    public void staticInit(ResteasyDeployment dep, String path, Set<String> known, Set<String> nonBlocking,
+            Set<String> blocking) {
         if (dep != null) {
             deployment = dep;
             deployment.start();
         }
         knownPaths = known;
         contextPath = path;
+        nonBlockingEndpoints = nonBlocking.isEmpty() ? null : new NonBlockingEndpointMatcher(nonBlocking, blocking);
     }
 
     public Consumer<Route> start(Supplier<Vertx> vertx,
@@ -168,7 +176,7 @@ public class ResteasyStandaloneRecorder {
             BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout) {
         if (deployment != null) {
             return new VertxRequestHandler(vertx.get(), beanContainer, deployment, contextPath, ALLOCATOR, executor,
-                    readTimeout.readTimeout.toMillis());
+                    readTimeout.readTimeout.toMillis(), nonBlockingEndpoints);
         }
         return null;
     }
@@ -33,6 +33,7 @@ import org.jboss.resteasy.spi.RunnableWithException;
 
 import io.quarkus.arc.ManagedContext;
 import io.vertx.core.Context;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -48,7 +49,8 @@ import io.vertx.ext.web.RoutingContext;
 public final class VertxHttpRequest extends BaseHttpRequest {
     private ResteasyHttpHeaders httpHeaders;
     private String httpMethod;
-    private LazyHostSupplier remoteHost;
+    private String remoteHost;
+    private boolean remoteHostResolved;
     private InputStream inputStream;
     private VertxHttpResponse response;
     private VertxExecutionContext executionContext;
@@ -59,18 +61,14 @@ public final class VertxHttpRequest extends BaseHttpRequest {
 
     public VertxHttpRequest(Context context,
             RoutingContext routingContext,
-            ResteasyHttpHeaders httpHeaders,
             ResteasyUriInfo uri,
             String httpMethod,
-            LazyHostSupplier remoteHost,
             SynchronousDispatcher dispatcher,
             VertxHttpResponse response, ManagedContext requestContext) {
         super(uri);
         this.context = context;
         this.response = response;
-        this.httpHeaders = httpHeaders;
         this.httpMethod = httpMethod;
-        this.remoteHost = remoteHost;
         this.executionContext = new VertxExecutionContext(this, response, dispatcher);
         this.requestContext = requestContext;
         this.requestContextState = requestContext.getState();
@@ -79,7 +77,7 @@ public final class VertxHttpRequest extends BaseHttpRequest {
 
     @Override
     public MultivaluedMap<String, String> getMutableHeaders() {
-        return httpHeaders.getMutableHeaders();
+        return getResteasyHttpHeaders().getMutableHeaders();
     }
 
     @Override
@@ -132,17 +130,31 @@ public final class VertxHttpRequest extends BaseHttpRequest {
 
     @Override
     public HttpHeaders getHttpHeaders() {
+        return getResteasyHttpHeaders();
+    }
+
+    private ResteasyHttpHeaders getResteasyHttpHeaders() {
+        if (httpHeaders == null) {
+            httpHeaders = VertxUtil.extractHttpHeaders(routingContext.request());
+        }
         return httpHeaders;
     }
 
     @Override
     public String getRemoteHost() {
-        return remoteHost.getRemoteHost();
+        // resolved lazily: often it's not needed and it's not very cheap to create
+        if (!remoteHostResolved) {
+            SocketAddress socketAddress = routingContext.request().remoteAddress();
+            // client address may not be available with VirtualHttp
+            remoteHost = socketAddress != null ? socketAddress.host() : null;
+            remoteHostResolved = true;
+        }
+        return remoteHost;
     }
 
     @Override
     public String getRemoteAddress() {
-        return remoteHost.getRemoteHost();
+        return getRemoteHost();
     }
 
     @Override
@@ -180,6 +192,7 @@ public final class VertxHttpRequest extends BaseHttpRequest {
         protected volatile boolean done;
         protected volatile boolean cancelled;
         protected volatile boolean wasSuspended;
+        protected final SynchronousDispatcher dispatcher;
         protected VertxHttpAsyncResponse asyncResponse;
 
         VertxExecutionContext(final VertxHttpRequest request, final VertxHttpResponse response,
@@ -187,7 +200,7 @@ public final class VertxHttpRequest extends BaseHttpRequest {
             super(dispatcher, request, response);
             this.request = request;
             this.response = response;
-            this.asyncResponse = new VertxHttpAsyncResponse(dispatcher, request, response);
+            this.dispatcher = dispatcher;
         }
 
         @Override
@@ -197,6 +210,14 @@ public final class VertxHttpRequest extends BaseHttpRequest {
 
         @Override
         public ResteasyAsynchronousResponse getAsyncResponse() {
+            return asyncResponse();
+        }
+
+        private synchronized VertxHttpAsyncResponse asyncResponse() {
+            // most requests are never suspended so the async response is only created on demand
+            if (asyncResponse == null) {
+                asyncResponse = new VertxHttpAsyncResponse(dispatcher, request, response);
+            }
             return asyncResponse;
         }
 
@@ -216,7 +237,7 @@ public final class VertxHttpRequest extends BaseHttpRequest {
                 throw new IllegalStateException("Request already suspended");
             }
             wasSuspended = true;
-            return asyncResponse;
+            return asyncResponse();
         }
 
         @Override
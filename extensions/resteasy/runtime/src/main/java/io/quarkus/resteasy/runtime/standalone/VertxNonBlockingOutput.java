@@ -0,0 +1,53 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Output used when the endpoint is invoked on the IO thread. The IO thread must never wait for the write queue to drain,
+ * so the data written from the IO thread is always handed over to Vert.x which queues it until the connection is writable
+ * again. The data written from a worker thread, e.g. by a blocking message body writer, still waits for the queue to drain.
+ */
+public class VertxNonBlockingOutput extends VertxBlockingOutput {
+
+    public VertxNonBlockingOutput(HttpServerRequest request) {
+        super(request);
+    }
+
+    @Override
+    public void write(ByteBuf data, boolean last) throws IOException {
+        if (!Context.isOnEventLoopThread()) {
+            super.write(data, last);
+            return;
+        }
+        if (last && data == null) {
+            request.response().end();
+            return;
+        }
+        try {
+            if (throwable != null) {
+                throw new IOException(throwable);
+            }
+            if (request.response().closed()) {
+                throw new IOException("Connection has been closed");
+            }
+            if (last) {
+                request.response().end(createBuffer(data));
+            } else {
+                request.response().write(createBuffer(data));
+            }
+        } catch (Exception e) {
+            if (data != null && data.refCnt() > 0) {
+                data.release();
+            }
+            throw e instanceof IOException ? (IOException) e : new IOException("Failed to write", e);
+        } finally {
+            if (last) {
+                terminateResponse();
+            }
+        }
+    }
+}
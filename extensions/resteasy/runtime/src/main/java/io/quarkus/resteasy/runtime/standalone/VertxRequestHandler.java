@@ -12,11 +12,11 @@ import javax.ws.rs.core.SecurityContext;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.core.SynchronousDispatcher;
-import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.Failure;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
+import io.netty.buffer.ByteBufInputStream;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
@@ -26,6 +26,7 @@ import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -45,12 +46,23 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final CurrentVertxRequest currentVertxRequest;
     protected final Executor executor;
     protected final long readTimeout;
+    protected final NonBlockingEndpointMatcher nonBlockingEndpoints;
+    private final String rootPathPrefix;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
             BufferAllocator allocator, Executor executor, long readTimeout) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, executor, readTimeout, null);
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator, Executor executor, long readTimeout,
+            NonBlockingEndpointMatcher nonBlockingEndpoints) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
@@ -59,6 +71,8 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         this.allocator = allocator;
         this.executor = executor;
         this.readTimeout = readTimeout;
+        this.nonBlockingEndpoints = nonBlockingEndpoints;
+        this.rootPathPrefix = rootPath.endsWith("/") ? rootPath.substring(0, rootPath.length() - 1) : rootPath;
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
         currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
@@ -68,10 +82,17 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     public void handle(RoutingContext request) {
         // have to create input stream here.  Cannot execute in another thread
         // otherwise request handlers may not get set up before request ends
+        boolean nonBlocking = isNonBlocking(request);
         InputStream is;
         try {
             if (request.getBody() != null) {
-                is = new ByteArrayInputStream(request.getBody().getBytes());
+                // read the body straight from the underlying Netty buffer instead of copying it to a byte array,
+                // the body handler collects it in an unpooled buffer which is never released, so it's not retained
+                // here: it stays readable as long as the stream references it, even if the connection is closed
+                is = new ByteBufInputStream(request.getBody().getByteBuf());
+            } else if (nonBlocking) {
+                // there is no body to read
+                is = new ByteArrayInputStream(new byte[0]);
             } else {
                 is = new VertxInputStream(request, readTimeout);
             }
@@ -80,6 +101,17 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             return;
         }
 
+        if (nonBlocking) {
+            // the endpoint never blocks and there is no body left to read, so we save the hop to a worker thread,
+            // the response is written without waiting for the write queue to drain as the IO thread must not block
+            try {
+                dispatch(request, is, new VertxNonBlockingOutput(request.request()));
+            } catch (Throwable e) {
+                request.fail(e);
+            }
+            return;
+        }
+
         executor.execute(new Runnable() {
             @Override
             public void run() {
@@ -92,6 +124,27 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         });
     }
 
+    private boolean isNonBlocking(RoutingContext routingContext) {
+        if (nonBlockingEndpoints == null) {
+            return false;
+        }
+        HttpServerRequest request = routingContext.request();
+        if (routingContext.getBody() == null && (request.headers().contains(HttpHeaders.TRANSFER_ENCODING)
+                || !isEmptyContentLength(request.getHeader(HttpHeaders.CONTENT_LENGTH)))) {
+            // reading the body may block
+            return false;
+        }
+        String path = routingContext.normalisedPath();
+        if (path.startsWith(rootPathPrefix)) {
+            path = path.substring(rootPathPrefix.length());
+        }
+        return nonBlockingEndpoints.isNonBlocking(request.rawMethod(), path.isEmpty() ? "/" : path);
+    }
+
+    private static boolean isEmptyContentLength(String contentLength) {
+        return contentLength == null || contentLength.equals("0");
+    }
+
     private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
@@ -104,16 +157,12 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             Context ctx = vertx.getOrCreateContext();
             HttpServerRequest request = routingContext.request();
             ResteasyUriInfo uriInfo = VertxUtil.extractUriInfo(request, rootPath);
-            ResteasyHttpHeaders headers = VertxUtil.extractHttpHeaders(request);
             HttpServerResponse response = request.response();
             VertxHttpResponse vertxResponse = new VertxHttpResponse(request, dispatcher.getProviderFactory(),
                     request.method(), allocator, output);
 
-            // using a supplier to make the remote Address resolution lazy: often it's not needed and it's not very cheap to create.
-            LazyHostSupplier hostSupplier = new LazyHostSupplier(request);
-
-            VertxHttpRequest vertxRequest = new VertxHttpRequest(ctx, routingContext, headers, uriInfo, request.rawMethod(),
-                    hostSupplier,
+            // the request headers are only extracted when first needed
+            VertxHttpRequest vertxRequest = new VertxHttpRequest(ctx, routingContext, uriInfo, request.rawMethod(),
                     dispatcher.getDispatcher(), vertxResponse, requestContext);
             vertxRequest.setInputStream(is);
             try {
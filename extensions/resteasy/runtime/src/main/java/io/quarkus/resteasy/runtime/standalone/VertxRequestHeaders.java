@@ -0,0 +1,257 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * A {@link MultivaluedMap} view of the Vert.x request headers.
+ * <p>
+ * Unlike copying the headers into a RESTEasy {@code Headers} instance, the value lists are only created for the headers
+ * which are actually read. The lookups are case-insensitive as the Vert.x headers are. The value lists returned by
+ * {@link #get} and {@link #entrySet()} are views which fetch the values once and write through to the Vert.x headers.
+ */
+final class VertxRequestHeaders extends AbstractMap<String, List<String>> implements MultivaluedMap<String, String> {
+
+    private final MultiMap headers;
+
+    VertxRequestHeaders(MultiMap headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        return headers.contains((String) key) ? new HeaderValues((String) key) : null;
+    }
+
+    @Override
+    public String getFirst(String key) {
+        return headers.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && headers.contains((String) key);
+    }
+
+    @Override
+    public int size() {
+        return headers.names().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return headers.isEmpty();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return headers.names();
+    }
+
+    @Override
+    public List<String> put(String key, List<String> value) {
+        List<String> previous = snapshot(key);
+        headers.set(key, value);
+        return previous;
+    }
+
+    @Override
+    public List<String> remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        List<String> previous = snapshot((String) key);
+        headers.remove((String) key);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        headers.clear();
+    }
+
+    @Override
+    public void putSingle(String key, String value) {
+        headers.set(key, value);
+    }
+
+    @Override
+    public void add(String key, String value) {
+        headers.add(key, value);
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addAll(String key, String... newValues) {
+        for (String value : newValues) {
+            headers.add(key, value);
+        }
+    }
+
+    @Override
+    public void addAll(String key, List<String> valueList) {
+        headers.add(key, valueList);
+    }
+
+    @Override
+    public void addFirst(String key, String value) {
+        List<String> values = new ArrayList<>();
+        values.add(value);
+        values.addAll(headers.getAll(key));
+        headers.set(key, values);
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(MultivaluedMap<String, String> otherMap) {
+        if (this == otherMap) {
+            return true;
+        }
+        if (!keySet().equals(otherMap.keySet())) {
+            return false;
+        }
+        for (Entry<String, List<String>> entry : entrySet()) {
+            List<String> otherValues = otherMap.get(entry.getKey());
+            if (otherValues == null || entry.getValue().size() != otherValues.size()
+                    || !entry.getValue().containsAll(otherValues)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return new AbstractSet<Entry<String, List<String>>>() {
+
+            @Override
+            public Iterator<Entry<String, List<String>>> iterator() {
+                Iterator<String> names = headers.names().iterator();
+                return new Iterator<Entry<String, List<String>>>() {
+
+                    private String current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return names.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, List<String>> next() {
+                        current = names.next();
+                        String name = current;
+                        return new SimpleEntry<String, List<String>>(name, new HeaderValues(name)) {
+
+                            @Override
+                            public List<String> setValue(List<String> value) {
+                                List<String> previous = snapshot(name);
+                                headers.set(name, value);
+                                return previous;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+                        headers.remove(current);
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return VertxRequestHeaders.this.size();
+            }
+        };
+    }
+
+    /**
+     * @return a copy of the values of the header, or {@code null} if the header is not present
+     */
+    private List<String> snapshot(String key) {
+        List<String> values = new ArrayList<>(headers.getAll(key));
+        return values.isEmpty() ? null : values;
+    }
+
+    /**
+     * A view of the values of a header. The values are fetched from the Vert.x headers on first access, and modifications
+     * are written through to them.
+     */
+    private final class HeaderValues extends AbstractList<String> {
+
+        private final String name;
+        private List<String> values;
+
+        HeaderValues(String name) {
+            this.name = name;
+        }
+
+        private List<String> values() {
+            if (values == null) {
+                values = headers.getAll(name);
+            }
+            return values;
+        }
+
+        @Override
+        public String get(int index) {
+            return values().get(index);
+        }
+
+        @Override
+        public int size() {
+            return values().size();
+        }
+
+        @Override
+        public String set(int index, String element) {
+            List<String> updated = new ArrayList<>(values());
+            String previous = updated.set(index, element);
+            update(updated);
+            return previous;
+        }
+
+        @Override
+        public void add(int index, String element) {
+            if (index == size()) {
+                headers.add(name, element);
+                // fetched again on next access
+                values = null;
+                modCount++;
+                return;
+            }
+            List<String> updated = new ArrayList<>(values());
+            updated.add(index, element);
+            update(updated);
+        }
+
+        @Override
+        public String remove(int index) {
+            List<String> updated = new ArrayList<>(values());
+            String previous = updated.remove(index);
+            update(updated);
+            return previous;
+        }
+
+        private void update(List<String> updated) {
+            headers.set(name, updated);
+            values = updated;
+            modCount++;
+        }
+    }
+}
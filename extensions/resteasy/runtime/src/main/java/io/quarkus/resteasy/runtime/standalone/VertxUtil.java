@@ -2,6 +2,7 @@ package io.quarkus.resteasy.runtime.standalone;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -13,6 +14,7 @@ import javax.ws.rs.core.MultivaluedMap;
 import org.jboss.resteasy.core.Headers;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo.InitData;
 import org.jboss.resteasy.util.CookieParser;
 import org.jboss.resteasy.util.HttpHeaderNames;
 import org.jboss.resteasy.util.MediaTypeHelper;
@@ -27,6 +29,17 @@ public class VertxUtil {
 
     private static final Pattern COMMA_PATTERN = Pattern.compile(",");
 
+    private static final int URI_INIT_DATA_CACHE_MAX_SIZE = 1000;
+    // the parsed paths and path segments of the request URIs without query or matrix parameters; the number of distinct
+    // URIs is unbounded if they contain path parameters, so the least recently used ones are evicted
+    private static final Map<String, InitData> URI_INIT_DATA_CACHE = new LinkedHashMap<String, InitData>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, InitData> eldest) {
+            return size() > URI_INIT_DATA_CACHE_MAX_SIZE;
+        }
+    };
+
     public static ResteasyUriInfo extractUriInfo(HttpServerRequest req, String contextPath) {
         String uri = req.absoluteURI();
         String protocol = req.scheme();
@@ -34,7 +47,7 @@ public class VertxUtil {
         String uriString;
 
         // If we appear to have an absolute URL, don't try to recreate it from the host and request line.
-        if (uri.startsWith(protocol + "://")) {
+        if (uri.startsWith(protocol) && uri.startsWith("://", protocol.length())) {
             uriString = uri;
         } else {
             String host = req.host();
@@ -49,13 +62,31 @@ public class VertxUtil {
             contextPath = "/" + contextPath;
         }
 
-        return new ResteasyUriInfo(uriString, contextPath);
+        return new ResteasyUriInfo(uriString, contextPath, getInitData(uriString, contextPath));
+    }
+
+    private static InitData getInitData(String absoluteUri, String contextPath) {
+        if (absoluteUri.indexOf('?') != -1 || !InitData.canBeCached(absoluteUri)) {
+            return null;
+        }
+        String key = InitData.getCacheKey(absoluteUri, contextPath);
+        InitData initData;
+        synchronized (URI_INIT_DATA_CACHE) {
+            initData = URI_INIT_DATA_CACHE.get(key);
+        }
+        if (initData == null) {
+            initData = new InitData(absoluteUri, contextPath);
+            synchronized (URI_INIT_DATA_CACHE) {
+                URI_INIT_DATA_CACHE.put(key, initData);
+            }
+        }
+        return initData;
     }
 
     public static ResteasyHttpHeaders extractHttpHeaders(HttpServerRequest request) {
 
-        MultivaluedMap<String, String> requestHeaders = extractRequestHeaders(request);
-        ResteasyHttpHeaders headers = new ResteasyHttpHeaders(requestHeaders);
+        MultivaluedMap<String, String> requestHeaders = new VertxRequestHeaders(request.headers());
+        ResteasyHttpHeaders headers = new ResteasyHttpHeaders(requestHeaders, false);
 
         Map<String, Cookie> cookies = extractCookies(requestHeaders);
         headers.setCookies(cookies);
@@ -7,9 +7,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javax.inject.Singleton;
 
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
@@ -68,6 +74,9 @@ import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SchedulerSupport;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.scheduler.runtime.metrics.SchedulerCounter;
+import io.quarkus.scheduler.runtime.metrics.SchedulerGauge;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 
 /**
  * @author Martin Kouba
@@ -226,8 +235,7 @@ public class SchedulerProcessor {
                 schedules.add(annotationProxy.builder(scheduled, Scheduled.class).build(classOutput));
             }
             scheduledMethod.setSchedules(schedules);
-            scheduledMethod.setMethodDescription(
-                    businessMethod.getMethod().declaringClass() + "#" + businessMethod.getMethod().name());
+            scheduledMethod.setMethodDescription(getMethodDescription(businessMethod.getMethod()));
             scheduledMethods.add(scheduledMethod);
         }
         recorder.initialize(config, scheduledMethods, executor.getExecutorProxy(), beanContainer.getValue());
@@ -235,6 +243,77 @@ public class SchedulerProcessor {
         serviceStart.produce(new ServiceStartBuildItem(FeatureBuildItem.SCHEDULER));
     }
 
+    @BuildStep
+    void registerMetrics(SchedulerConfig config, List<ScheduledBusinessMethodItem> scheduledBusinessMethods,
+            BuildProducer<MetricBuildItem> metrics) {
+        Metadata executionCountMetadata = Metadata.builder()
+                .withName("scheduler.execution.count")
+                .withDescription("Number of executions of the scheduled method.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata failureCountMetadata = Metadata.builder()
+                .withName("scheduler.failure.count")
+                .withDescription("Number of executions of the scheduled method that threw an exception.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata skippedCountMetadata = Metadata.builder()
+                .withName("scheduler.skipped.count")
+                .withDescription("Number of executions skipped because the previous execution was still running.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata executionTimeTotalMetadata = Metadata.builder()
+                .withName("scheduler.execution.time.total")
+                .withDescription("Total time spent executing the scheduled method.")
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.MILLISECONDS)
+                .build();
+        Metadata executionTimeMaxMetadata = Metadata.builder()
+                .withName("scheduler.execution.time.max")
+                .withDescription("Maximum time spent executing the scheduled method.")
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.MILLISECONDS)
+                .build();
+
+        // Overloaded methods share the same description and statistics
+        Set<String> methodDescriptions = new TreeSet<>();
+        for (ScheduledBusinessMethodItem businessMethod : scheduledBusinessMethods) {
+            methodDescriptions.add(getMethodDescription(businessMethod.getMethod()));
+        }
+        for (String methodDescription : methodDescriptions) {
+            Tag tag = new Tag("method", methodDescription);
+            String configRootName = "scheduler";
+            metrics.produce(new MetricBuildItem(executionCountMetadata,
+                    new SchedulerCounter(methodDescription, "executionCount"),
+                    config.metricsEnabled,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(failureCountMetadata,
+                    new SchedulerCounter(methodDescription, "failureCount"),
+                    config.metricsEnabled,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(skippedCountMetadata,
+                    new SchedulerCounter(methodDescription, "skippedCount"),
+                    config.metricsEnabled,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(executionTimeTotalMetadata,
+                    new SchedulerGauge(methodDescription, "executionTimeTotal"),
+                    config.metricsEnabled,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(executionTimeMaxMetadata,
+                    new SchedulerGauge(methodDescription, "executionTimeMax"),
+                    config.metricsEnabled,
+                    configRootName,
+                    tag));
+        }
+    }
+
+    private static String getMethodDescription(MethodInfo method) {
+        return method.declaringClass().name() + "#" + method.name();
+    }
+
     private String generateInvoker(BeanInfo bean, MethodInfo method, ClassOutput classOutput) {
 
         String baseName;
@@ -0,0 +1,83 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.runtime.ScheduledMethodStatistics;
+import io.quarkus.scheduler.runtime.SchedulerSupport;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConcurrentExecutionSkipTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.metrics.enabled=true"),
+                            "application.properties"));
+
+    @Inject
+    SchedulerSupport schedulerSupport;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testExecutionsAreSkipped() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(1, Jobs.MAX_CONCURRENT.get());
+
+        String methodDescription = Jobs.class.getName() + "#nonconcurrent";
+        ScheduledMethodStatistics statistics = schedulerSupport.getStatistics(methodDescription);
+        assertTrue(statistics.getExecutionCount() >= 2);
+        assertTrue(statistics.getSkippedCount() > 0);
+        assertEquals(0, statistics.getFailureCount());
+
+        Counter skipped = registry.getCounters()
+                .get(new MetricID("scheduler.skipped.count", new Tag("method", methodDescription)));
+        assertNotNull(skipped, "Scheduler metrics should be registered");
+        assertTrue(skipped.getCount() > 0);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(3);
+        static final AtomicInteger CONCURRENT = new AtomicInteger();
+        static final AtomicInteger MAX_CONCURRENT = new AtomicInteger();
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void nonconcurrent() throws InterruptedException {
+            int concurrent = CONCURRENT.incrementAndGet();
+            MAX_CONCURRENT.accumulateAndGet(concurrent, Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(300);
+            } finally {
+                CONCURRENT.decrementAndGet();
+                LATCH.countDown();
+            }
+        }
+
+    }
+
+}
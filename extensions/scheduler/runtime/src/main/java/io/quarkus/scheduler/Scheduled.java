@@ -56,7 +56,7 @@ public @interface Scheduled {
      * The value is parsed with {@link Duration#parse(CharSequence)}. However, if an expression starts with a digit, "PT" prefix
      * is added automatically, so for
      * example, {@code 15m} can be used instead of {@code PT15M} and is parsed as "15 minutes". Note that the absolute value of
-     * the value is always used.
+     * the value is always used. Sub-second periods are supported with a fractional number of seconds, e.g. {@code 0.25s}.
      * <p>
      * If the value starts with "&#123;" and ends with "&#125;" the scheduler attempts to find a corresponding config property
      * and use the configured value
@@ -81,6 +81,29 @@ public @interface Scheduled {
      */
     TimeUnit delayUnit() default TimeUnit.MINUTES;
 
+    /**
+     * Specifies what to do if the trigger fires while the previous execution of the same trigger is still running.
+     * <p>
+     * By default, the scheduled method is executed concurrently.
+     *
+     * @return the concurrent execution strategy
+     */
+    ConcurrentExecution concurrentExecution() default ConcurrentExecution.PROCEED;
+
+    enum ConcurrentExecution {
+
+        /**
+         * The scheduled method is executed even if the previous execution is still running.
+         */
+        PROCEED,
+
+        /**
+         * The execution is skipped if the previous execution is still running.
+         */
+        SKIP
+
+    }
+
     @Retention(RUNTIME)
     @Target(METHOD)
     @interface Schedules {
@@ -0,0 +1,58 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The execution statistics of a scheduled business method, shared by all its triggers.
+ */
+public final class ScheduledMethodStatistics {
+
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder executionTimeTotal = new LongAdder();
+    private final AtomicLong executionTimeMax = new AtomicLong();
+
+    void recordExecution(long nanos, boolean failed) {
+        executionCount.increment();
+        if (failed) {
+            failureCount.increment();
+        }
+        executionTimeTotal.add(nanos);
+        long max = executionTimeMax.get();
+        while (nanos > max && !executionTimeMax.compareAndSet(max, nanos)) {
+            max = executionTimeMax.get();
+        }
+    }
+
+    void recordSkipped() {
+        skippedCount.increment();
+    }
+
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * @return the number of executions skipped because the previous one was still running
+     * @see io.quarkus.scheduler.Scheduled.ConcurrentExecution#SKIP
+     */
+    public long getSkippedCount() {
+        return skippedCount.sum();
+    }
+
+    public Duration getExecutionTimeTotal() {
+        return Duration.ofNanos(executionTimeTotal.sum());
+    }
+
+    public Duration getExecutionTimeMax() {
+        return Duration.ofNanos(executionTimeMax.get());
+    }
+
+}
@@ -18,4 +18,11 @@ public class SchedulerConfig {
     @ConfigItem(defaultValue = "quartz")
     public CronType cronType;
 
+    /**
+     * Whether the execution count, failure count, skipped count and execution time of each scheduled business method
+     * are published if the `quarkus-smallrye-metrics` extension is present.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "false")
+    public boolean metricsEnabled;
+
 }
@@ -2,12 +2,17 @@ package io.quarkus.scheduler.runtime;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 
 import javax.inject.Singleton;
 
 import com.cronutils.model.CronType;
 
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+
 /**
  *
  * @author Martin Kouba
@@ -18,6 +23,7 @@ public class SchedulerSupport {
     private volatile ExecutorService executor;
     private volatile CronType cronType;
     private volatile List<ScheduledMethodMetadata> scheduledMethods;
+    private final ConcurrentMap<String, ScheduledMethodStatistics> statistics = new ConcurrentHashMap<>();
 
     void initialize(SchedulerConfig config, List<ScheduledMethodMetadata> scheduledMethods, ExecutorService executor) {
         this.cronType = config.cronType;
@@ -50,6 +56,27 @@ public class SchedulerSupport {
         }
     }
 
+    /**
+     * @return the invoker of a trigger, recording the statistics of the method and applying the
+     *         {@link Scheduled#concurrentExecution()} strategy
+     */
+    public ScheduledInvoker createInvoker(ScheduledMethodMetadata method, Scheduled scheduled) {
+        ScheduledMethodStatistics methodStatistics = getStatistics(method.getMethodDescription());
+        ScheduledInvoker invoker = new StatisticsInvoker(createInvoker(method.getInvokerClassName()), methodStatistics);
+        if (scheduled.concurrentExecution() == ConcurrentExecution.SKIP) {
+            invoker = new SkipConcurrentExecutionInvoker(invoker, methodStatistics);
+        }
+        return invoker;
+    }
+
+    /**
+     * @return the statistics of the scheduled business method
+     * @see ScheduledMethodMetadata#getMethodDescription()
+     */
+    public ScheduledMethodStatistics getStatistics(String methodDescription) {
+        return statistics.computeIfAbsent(methodDescription, d -> new ScheduledMethodStatistics());
+    }
+
     public static String getConfigProperty(String val) {
         return val.substring(1, val.length() - 1);
     }
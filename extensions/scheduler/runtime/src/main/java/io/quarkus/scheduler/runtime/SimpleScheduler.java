@@ -2,12 +2,11 @@ package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -38,25 +37,30 @@ import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.Trigger;
 
+/**
+ * A scheduler that keeps its tasks in a priority queue ordered by the next fire time, and only wakes up when the first
+ * task is due.
+ * <p>
+ * The queue is only accessed from the single thread of the scheduled executor. The due tasks are executed by the
+ * Quarkus executor. If a task is not executed on time, e.g. because the application was suspended, the missed
+ * executions are coalesced into a single one.
+ */
 @Typed(Scheduler.class)
 @Singleton
 public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
-
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
     private volatile boolean running;
-    private final List<ScheduledTask> scheduledTasks;
+    private final PriorityQueue<ScheduledTask> scheduledTasks;
     private final AtomicInteger triggerNameSequence;
     private final Config config;
 
     public SimpleScheduler(SchedulerSupport support, Config config) {
         this.running = true;
-        this.scheduledTasks = new ArrayList<>();
+        this.scheduledTasks = new PriorityQueue<>(Comparator.comparing((ScheduledTask task) -> task.trigger.nextFireTime));
         this.triggerNameSequence = new AtomicInteger();
         this.executor = support.getExecutor();
         this.config = config;
@@ -74,11 +78,14 @@ public class SimpleScheduler implements Scheduler {
             CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(support.getCronType());
             CronParser parser = new CronParser(definition);
 
+            ZonedDateTime now = ZonedDateTime.now();
             for (ScheduledMethodMetadata method : support.getScheduledMethods()) {
-                ScheduledInvoker invoker = support.createInvoker(method.getInvokerClassName());
                 for (Scheduled scheduled : method.getSchedules()) {
                     SimpleTrigger trigger = createTrigger(method.getInvokerClassName(), parser, scheduled);
-                    scheduledTasks.add(new ScheduledTask(trigger, invoker));
+                    trigger.nextFireTime = trigger.computeNextFireTime(null, now);
+                    if (trigger.nextFireTime != null) {
+                        scheduledTasks.add(new ScheduledTask(trigger, support.createInvoker(method, scheduled)));
+                    }
                 }
             }
         }
@@ -89,12 +96,7 @@ public class SimpleScheduler implements Scheduler {
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        scheduledExecutor.execute(this::scheduleNextCheck);
     }
 
     @PreDestroy
@@ -109,31 +111,56 @@ public class SimpleScheduler implements Scheduler {
     }
 
     void checkTriggers() {
-        if (!running) {
-            LOGGER.trace("Skip all triggers - scheduler paused");
-        }
-        ZonedDateTime now = ZonedDateTime.now();
-
-        for (ScheduledTask task : scheduledTasks) {
-            LOGGER.tracef("Evaluate trigger %s", task.trigger);
-            ZonedDateTime scheduledFireTime = task.trigger.evaluate(now);
-            if (scheduledFireTime != null) {
-                try {
-                    executor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                task.invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, task.trigger));
-                            } catch (Throwable t) {
-                                LOGGER.errorf(t, "Error occured while executing task for trigger %s", task.trigger);
-                            }
-                        }
-                    });
-                    LOGGER.debugf("Executing scheduled task for trigger %s", task.trigger);
-                } catch (RejectedExecutionException e) {
-                    LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", task.trigger);
+        try {
+            ZonedDateTime now = ZonedDateTime.now();
+            ScheduledTask task;
+            while ((task = scheduledTasks.peek()) != null && !task.trigger.nextFireTime.isAfter(now)) {
+                scheduledTasks.poll();
+                ZonedDateTime scheduledFireTime = task.trigger.nextFireTime;
+                if (running) {
+                    execute(task, now, scheduledFireTime);
+                } else {
+                    LOGGER.tracef("Skip trigger %s - scheduler paused", task.trigger);
+                }
+                task.trigger.previousFireTime = scheduledFireTime;
+                task.trigger.nextFireTime = task.trigger.computeNextFireTime(scheduledFireTime, now);
+                if (task.trigger.nextFireTime != null) {
+                    scheduledTasks.add(task);
                 }
             }
+        } finally {
+            scheduleNextCheck();
+        }
+    }
+
+    private void scheduleNextCheck() {
+        ScheduledTask next = scheduledTasks.peek();
+        if (next == null || scheduledExecutor.isShutdown()) {
+            return;
+        }
+        long delay = Math.max(0, ChronoUnit.NANOS.between(ZonedDateTime.now(), next.trigger.nextFireTime));
+        try {
+            scheduledExecutor.schedule(this::checkTriggers, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // the scheduler is being stopped
+        }
+    }
+
+    private void execute(ScheduledTask task, ZonedDateTime now, ZonedDateTime scheduledFireTime) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        task.invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, task.trigger));
+                    } catch (Throwable t) {
+                        LOGGER.errorf(t, "Error occured while executing task for trigger %s", task.trigger);
+                    }
+                }
+            });
+            LOGGER.debugf("Executing scheduled task for trigger %s", task.trigger);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", task.trigger);
         }
     }
 
@@ -181,7 +208,11 @@ public class SimpleScheduler implements Scheduler {
                 // This could only happen for config-based expressions
                 throw new IllegalStateException("Invalid every() expression on: " + scheduled, e);
             }
-            return new IntervalTrigger(id, start, duration.toMillis());
+            long interval = Math.abs(duration.toMillis());
+            if (interval == 0) {
+                throw new IllegalStateException("The every() period must be at least 1 ms on: " + scheduled);
+            }
+            return new IntervalTrigger(id, start, interval);
         } else {
             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
         }
@@ -203,6 +234,8 @@ public class SimpleScheduler implements Scheduler {
 
         private final String id;
         protected final ZonedDateTime start;
+        volatile ZonedDateTime nextFireTime;
+        volatile ZonedDateTime previousFireTime;
 
         public SimpleTrigger(String id, ZonedDateTime start) {
             this.id = id;
@@ -211,21 +244,34 @@ public class SimpleScheduler implements Scheduler {
 
         /**
          * 
+         * @param lastScheduledFireTime the scheduled time of the last execution, {@code null} if not fired yet
          * @param now
-         * @return the scheduled time if fired, {@code null} otherwise
+         * @return the next scheduled time, not before {@code now}, or {@code null} if the trigger will not fire again
          */
-        abstract ZonedDateTime evaluate(ZonedDateTime now);
+        abstract ZonedDateTime computeNextFireTime(ZonedDateTime lastScheduledFireTime, ZonedDateTime now);
 
         public String getId() {
             return id;
         }
 
+        @Override
+        public Instant getNextFireTime() {
+            ZonedDateTime next = nextFireTime;
+            return next != null ? next.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            ZonedDateTime previous = previousFireTime;
+            return previous != null ? previous.toInstant() : null;
+        }
+
     }
 
     static class IntervalTrigger extends SimpleTrigger {
 
+        // milliseconds
         private final long interval;
-        private volatile ZonedDateTime lastFireTime;
 
         public IntervalTrigger(String id, ZonedDateTime start, long interval) {
             super(id, start);
@@ -233,31 +279,15 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            if (lastFireTime == null) {
+        ZonedDateTime computeNextFireTime(ZonedDateTime lastScheduledFireTime, ZonedDateTime now) {
+            if (lastScheduledFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return now;
-            }
-            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
-                ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return scheduledFireTime;
+                return now.isBefore(start) ? start : now;
             }
-            return null;
-        }
-
-        @Override
-        public Instant getNextFireTime() {
-            return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            return lastFireTime.toInstant();
+            // Keep the fixed rate and skip the missed executions
+            long elapsed = ChronoUnit.MILLIS.between(lastScheduledFireTime, now);
+            long periods = Math.max(1, (elapsed + interval - 1) / interval);
+            return lastScheduledFireTime.plus(Duration.ofMillis(periods * interval));
         }
 
         @Override
@@ -271,9 +301,6 @@ public class SimpleScheduler implements Scheduler {
 
     static class CronTrigger extends SimpleTrigger {
 
-        // microseconds
-        private static final long DIFF_THRESHOLD = CHECK_PERIOD * 1000;
-
         private final Cron cron;
         private final ExecutionTime executionTime;
 
@@ -284,35 +311,13 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        public Instant getNextFireTime() {
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(ZonedDateTime.now());
-            return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            Optional<ZonedDateTime> prevFireTime = executionTime.lastExecution(ZonedDateTime.now());
-            return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
-        }
-
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            Optional<ZonedDateTime> lastFireTime = executionTime.lastExecution(now);
-            if (lastFireTime.isPresent()) {
-                ZonedDateTime trunc = lastFireTime.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isBefore(trunc)) {
-                    return null;
-                }
-                // Use microseconds precision to workaround incompatibility between jdk8 and jdk9+
-                long diff = ChronoUnit.MICROS.between(trunc, now);
-                if (diff <= DIFF_THRESHOLD) {
-                    LOGGER.debugf("%s fired, diff=%s μs", this, diff);
-                    return trunc;
-                }
+        ZonedDateTime computeNextFireTime(ZonedDateTime lastScheduledFireTime, ZonedDateTime now) {
+            ZonedDateTime from = now.isBefore(start) ? start.minusNanos(1) : now;
+            if (lastScheduledFireTime != null && lastScheduledFireTime.isAfter(from)) {
+                from = lastScheduledFireTime;
             }
-            return null;
+            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(from);
+            return nextFireTime.isPresent() ? nextFireTime.get() : null;
         }
 
         @Override
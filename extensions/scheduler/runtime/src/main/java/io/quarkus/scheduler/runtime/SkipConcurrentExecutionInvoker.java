@@ -0,0 +1,49 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+
+/**
+ * Skips the execution of a trigger if its previous execution is still running.
+ *
+ * @see ConcurrentExecution#SKIP
+ */
+public class SkipConcurrentExecutionInvoker implements ScheduledInvoker {
+
+    private static final Logger LOGGER = Logger.getLogger(SkipConcurrentExecutionInvoker.class);
+
+    private final ScheduledInvoker delegate;
+    private final ScheduledMethodStatistics statistics;
+    private final AtomicBoolean running;
+
+    public SkipConcurrentExecutionInvoker(ScheduledInvoker delegate, ScheduledMethodStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+        this.running = new AtomicBoolean();
+    }
+
+    @Override
+    public void invoke(ScheduledExecution execution) {
+        if (running.compareAndSet(false, true)) {
+            try {
+                delegate.invoke(execution);
+            } finally {
+                running.set(false);
+            }
+        } else {
+            statistics.recordSkipped();
+            LOGGER.debugf("Skipped execution of trigger %s - the previous execution is still running",
+                    execution.getTrigger().getId());
+        }
+    }
+
+    @Override
+    public void invokeBean(ScheduledExecution execution) {
+        delegate.invokeBean(execution);
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.quarkus.scheduler.runtime;
+
+import io.quarkus.scheduler.ScheduledExecution;
+
+/**
+ * Records the execution time and the failures of a scheduled business method.
+ */
+public class StatisticsInvoker implements ScheduledInvoker {
+
+    private final ScheduledInvoker delegate;
+    private final ScheduledMethodStatistics statistics;
+
+    public StatisticsInvoker(ScheduledInvoker delegate, ScheduledMethodStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void invoke(ScheduledExecution execution) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            delegate.invoke(execution);
+            failed = false;
+        } finally {
+            statistics.recordExecution(System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public void invokeBean(ScheduledExecution execution) {
+        delegate.invokeBean(execution);
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.scheduler.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Counter;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.scheduler.runtime.ScheduledMethodStatistics;
+import io.quarkus.scheduler.runtime.SchedulerSupport;
+
+public class SchedulerCounter implements Counter {
+
+    private String methodDescription;
+    private volatile ScheduledMethodStatistics statistics;
+    private String metric;
+
+    public SchedulerCounter() {
+
+    }
+
+    /**
+     * @param methodDescription Which scheduled method should be queried for metric
+     * @param metricName Name of the method from ScheduledMethodStatistics that should be called to retrieve the particular
+     *        value. This has nothing to do with the metric name from MP Metrics point of view!
+     */
+    public SchedulerCounter(String methodDescription, String metricName) {
+        this.methodDescription = methodDescription;
+        this.metric = metricName;
+    }
+
+    public String getMethodDescription() {
+        return methodDescription;
+    }
+
+    public void setMethodDescription(String methodDescription) {
+        this.methodDescription = methodDescription;
+    }
+
+    private ScheduledMethodStatistics getStatistics() {
+        ScheduledMethodStatistics statisticsLocal = statistics;
+        if (statisticsLocal == null) {
+            synchronized (this) {
+                statisticsLocal = statistics;
+                if (statisticsLocal == null) {
+                    statistics = statisticsLocal = Arc.container().instance(SchedulerSupport.class).get()
+                            .getStatistics(methodDescription);
+                }
+            }
+        }
+        return statisticsLocal;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public void inc() {
+    }
+
+    @Override
+    public void inc(long n) {
+    }
+
+    @Override
+    public long getCount() {
+        ScheduledMethodStatistics stats = getStatistics();
+        switch (metric) {
+            case "executionCount":
+                return stats.getExecutionCount();
+            case "failureCount":
+                return stats.getFailureCount();
+            case "skippedCount":
+                return stats.getSkippedCount();
+            default:
+                throw new IllegalArgumentException("Unknown scheduler metric");
+        }
+    }
+}
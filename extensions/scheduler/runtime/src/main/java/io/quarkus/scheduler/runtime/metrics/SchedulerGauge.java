@@ -0,0 +1,71 @@
+package io.quarkus.scheduler.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Gauge;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.scheduler.runtime.ScheduledMethodStatistics;
+import io.quarkus.scheduler.runtime.SchedulerSupport;
+
+public class SchedulerGauge implements Gauge<Long> {
+
+    private String methodDescription;
+    private volatile ScheduledMethodStatistics statistics;
+    private String metric;
+
+    public SchedulerGauge() {
+
+    }
+
+    /**
+     * @param methodDescription Which scheduled method should be queried for metric
+     * @param metricName Name of the method from ScheduledMethodStatistics that should be called to retrieve the particular
+     *        value. This has nothing to do with the metric name from MP Metrics point of view!
+     */
+    public SchedulerGauge(String methodDescription, String metricName) {
+        this.methodDescription = methodDescription;
+        this.metric = metricName;
+    }
+
+    public String getMethodDescription() {
+        return methodDescription;
+    }
+
+    public void setMethodDescription(String methodDescription) {
+        this.methodDescription = methodDescription;
+    }
+
+    private ScheduledMethodStatistics getStatistics() {
+        ScheduledMethodStatistics statisticsLocal = statistics;
+        if (statisticsLocal == null) {
+            synchronized (this) {
+                statisticsLocal = statistics;
+                if (statisticsLocal == null) {
+                    statistics = statisticsLocal = Arc.container().instance(SchedulerSupport.class).get()
+                            .getStatistics(methodDescription);
+                }
+            }
+        }
+        return statisticsLocal;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public Long getValue() {
+        ScheduledMethodStatistics stats = getStatistics();
+        switch (metric) {
+            case "executionTimeTotal":
+                return stats.getExecutionTimeTotal().toMillis();
+            case "executionTimeMax":
+                return stats.getExecutionTimeMax().toMillis();
+            default:
+                throw new IllegalArgumentException("Unknown scheduler metric");
+        }
+    }
+}
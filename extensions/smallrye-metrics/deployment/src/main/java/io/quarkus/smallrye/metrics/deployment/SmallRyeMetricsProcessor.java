@@ -450,21 +450,28 @@ public class SmallRyeMetricsProcessor {
         }
     }
 
+    /**
+     * The registries are used by the metrics of other Quarkus extensions. This does not depend on the {@link MetricBuildItem}s
+     * so that they can be produced from the result of the bean discovery, e.g. for each scheduled business method.
+     */
+    @BuildStep
+    void extensionMetricsUnremovableBeans(BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        if (metrics.extensionsEnabled) {
+            unremovableBeans.produce(new UnremovableBeanBuildItem(
+                    new UnremovableBeanBuildItem.BeanClassNameExclusion(MetricRegistry.class.getName())));
+            unremovableBeans.produce(new UnremovableBeanBuildItem(
+                    new UnremovableBeanBuildItem.BeanClassNameExclusion(MetricRegistries.class.getName())));
+        }
+    }
+
     /**
      * Register metrics required by other Quarkus extensions.
      */
     @BuildStep
     @Record(STATIC_INIT)
     void extensionMetrics(SmallRyeMetricsRecorder recorder,
-            List<MetricBuildItem> additionalMetrics,
-            BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+            List<MetricBuildItem> additionalMetrics) {
         if (metrics.extensionsEnabled) {
-            if (!additionalMetrics.isEmpty()) {
-                unremovableBeans.produce(new UnremovableBeanBuildItem(
-                        new UnremovableBeanBuildItem.BeanClassNameExclusion(MetricRegistry.class.getName())));
-                unremovableBeans.produce(new UnremovableBeanBuildItem(
-                        new UnremovableBeanBuildItem.BeanClassNameExclusion(MetricRegistries.class.getName())));
-            }
             for (MetricBuildItem additionalMetric : additionalMetrics) {
                 if (additionalMetric.isEnabled()) {
                     TagHolder[] tags = Arrays.stream(additionalMetric.getTags())
@@ -2,10 +2,12 @@ package io.quarkus.smallrye.metrics.jaxrs;
 
 import static io.restassured.RestAssured.when;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.SimpleTimer;
 import org.eclipse.microprofile.metrics.Tag;
@@ -124,4 +126,13 @@ public class JaxRsMetricsTestCase {
         assertTrue(metric.getElapsedTime().toNanos() > 0);
     }
 
+    @Test
+    public void testMetricIsRegisteredBeforeFirstInvocation() {
+        SimpleTimer metric = metricRegistry.getSimpleTimers().get(new MetricID("REST.request",
+                new Tag("class", METRIC_RESOURCE_CLASS_NAME),
+                new Tag("method", "neverCalled")));
+        assertNotNull(metric, "The REST.request metric should be registered when the resource method is deployed");
+        assertEquals(0, metric.getCount());
+    }
+
 }
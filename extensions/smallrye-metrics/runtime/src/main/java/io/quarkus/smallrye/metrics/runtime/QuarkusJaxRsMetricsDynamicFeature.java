@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Registers the REST.request timer of each resource method when the method is deployed and binds a
+ * {@link QuarkusJaxRsMetricsFilter} updating this timer to the method, so that no metric lookup is needed per request.
+ */
+@Provider
+public class QuarkusJaxRsMetricsDynamicFeature implements DynamicFeature {
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        context.register(new QuarkusJaxRsMetricsFilter(
+                registerTimer(resourceInfo.getResourceClass(), resourceInfo.getResourceMethod())));
+    }
+
+    private SimpleTimer registerTimer(Class<?> resourceClass, Method resourceMethod) {
+        Metadata metadata = Metadata.builder()
+                .withName("REST.request")
+                .withDescription(
+                        "The number of invocations and total response time of this RESTful resource method since the start of the server.")
+                .withUnit(MetricUnits.NANOSECONDS)
+                // the same resource method may be deployed more than once, e.g. after a dev mode restart
+                .reusable()
+                .build();
+        return MetricRegistries.get(MetricRegistry.Type.BASE).simpleTimer(metadata,
+                new Tag("class", resourceClass.getName()),
+                new Tag("method", getMethodTagValue(resourceMethod)));
+    }
+
+    private String getMethodTagValue(Method resourceMethod) {
+        String methodName = resourceMethod.getName();
+        String encodedParameterNames = Arrays.stream(resourceMethod.getParameterTypes())
+                .map(clazz -> {
+                    if (clazz.isArray()) {
+                        return clazz.getComponentType().getName() + "[]";
+                    } else {
+                        return clazz.getName();
+                    }
+                })
+                .collect(Collectors.joining("_"));
+        return encodedParameterNames.isEmpty() ? methodName : methodName + "_" + encodedParameterNames;
+    }
+
+}
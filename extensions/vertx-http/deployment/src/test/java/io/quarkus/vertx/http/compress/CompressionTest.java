@@ -0,0 +1,80 @@
+package io.quarkus.vertx.http.compress;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.runtime.HttpCompressionHandler;
+import io.restassured.response.Response;
+import io.vertx.ext.web.Router;
+
+public class CompressionTest {
+
+    static final String LARGE_BODY = largeBody();
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BeanRegisteringRoutes.class)
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true\n"
+                            + "quarkus.http.compression.min-size=100"), "application.properties"));
+
+    @Test
+    public void testCompression() {
+        assertCompressed("/large-json", true, LARGE_BODY);
+        assertCompressed("/small-json", false, "{}");
+        assertCompressed("/large-binary", false, LARGE_BODY);
+        assertCompressed("/forced", true, "{}");
+        assertCompressed("/disabled", false, LARGE_BODY);
+    }
+
+    static void assertCompressed(String path, boolean compressed, String expectedBody) {
+        Response response = given().header("Accept-Encoding", "gzip").get(path);
+        response.then().statusCode(200);
+        if (compressed) {
+            assertThat(response.header("Content-Encoding")).isEqualTo("gzip");
+        } else {
+            assertThat(response.header("Content-Encoding")).isNotEqualTo("gzip");
+        }
+        assertThat(response.asString()).isEqualTo(expectedBody);
+    }
+
+    static String largeBody() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            builder.append("compress me ");
+        }
+        return builder.toString();
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoutes {
+
+        void register(@Observes Router router) {
+            router.route("/large-json").handler(rc -> rc.response().putHeader("Content-Type", "application/json")
+                    .end(LARGE_BODY));
+            router.route("/small-json").handler(rc -> rc.response().putHeader("Content-Type", "application/json")
+                    .end("{}"));
+            router.route("/large-binary")
+                    .handler(rc -> rc.response().putHeader("Content-Type", "application/octet-stream").end(LARGE_BODY));
+            router.route("/forced").handler(rc -> {
+                HttpCompressionHandler.setCompressed(rc, true);
+                rc.response().putHeader("Content-Type", "application/json").end("{}");
+            });
+            router.route("/disabled").handler(rc -> {
+                HttpCompressionHandler.setCompressed(rc, false);
+                rc.response().putHeader("Content-Type", "application/json").end(LARGE_BODY);
+            });
+        }
+
+    }
+}
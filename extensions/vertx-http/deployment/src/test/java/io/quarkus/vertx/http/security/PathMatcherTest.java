@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.security.PathMatcher;
+
+public class PathMatcherTest {
+
+    @Test
+    public void testPrefixPathMatching() {
+        PathMatcher<String> matcher = new PathMatcher<>();
+        matcher.addPrefixPath("/foo", "foo");
+        matcher.addPrefixPath("/foo/bar", "bar");
+        matcher.addPrefixPath("/foo/bar/baz", "baz");
+        matcher.addPrefixPath("/other", "other");
+        assertEquals("foo", matcher.matchValue("/foo"));
+        assertEquals("foo", matcher.matchValue("/foo/"));
+        assertEquals("foo", matcher.matchValue("/foo/barbar"));
+        assertEquals("bar", matcher.matchValue("/foo/bar"));
+        assertEquals("bar", matcher.matchValue("/foo/bar/ba"));
+        assertEquals("baz", matcher.matchValue("/foo/bar/baz/qux"));
+        assertEquals("other", matcher.matchValue("/other/foo/bar"));
+        // Segments must match completely
+        assertNull(matcher.matchValue("/foobar"));
+        assertNull(matcher.matchValue("/fo"));
+        assertNull(matcher.matchValue("foo"));
+        assertNull(matcher.matchValue(""));
+
+        PathMatcher.PathMatch<String> match = matcher.match("/foo/bar/qux");
+        assertEquals("bar", match.getValue());
+        assertEquals("/foo/bar", match.getMatched());
+        assertEquals("/qux", match.getRemaining());
+
+        matcher.removePrefixPath("/foo/bar");
+        assertEquals("foo", matcher.matchValue("/foo/bar/ba"));
+        assertEquals("baz", matcher.matchValue("/foo/bar/baz"));
+    }
+
+    @Test
+    public void testExactPathAndDefault() {
+        PathMatcher<String> matcher = new PathMatcher<>();
+        matcher.addPrefixPath("/", "default");
+        matcher.addPrefixPath("/foo", "prefix");
+        matcher.addExactPath("/foo/exact", "exact");
+        assertEquals("exact", matcher.matchValue("/foo/exact"));
+        assertEquals("prefix", matcher.matchValue("/foo/exact/more"));
+        assertEquals("default", matcher.matchValue("/bar"));
+        assertEquals("default", matcher.matchValue("/"));
+
+        PathMatcher.PathMatch<String> match = matcher.match("/bar");
+        assertEquals("default", match.getValue());
+        assertEquals("", match.getMatched());
+        assertEquals("/bar", match.getRemaining());
+    }
+
+    @Test
+    public void testSegmentsWithSameHash() {
+        // "Aa" and "BB" have the same hash code
+        PathMatcher<String> matcher = new PathMatcher<>();
+        matcher.addPrefixPath("/Aa", "Aa");
+        matcher.addPrefixPath("/BB", "BB");
+        matcher.addPrefixPath("/BB/Aa", "BB/Aa");
+        assertEquals("Aa", matcher.matchValue("/Aa/BB"));
+        assertEquals("BB", matcher.matchValue("/BB/BB"));
+        assertEquals("BB/Aa", matcher.matchValue("/BB/Aa"));
+        assertNull(matcher.matchValue("/AaBB"));
+    }
+
+    @Test
+    public void testManyPaths() {
+        PathMatcher<String> matcher = new PathMatcher<>();
+        for (int i = 0; i < 500; i++) {
+            matcher.addPrefixPath("/tenant" + i + "/api", "api" + i);
+            matcher.addExactPath("/tenant" + i + "/health", "health" + i);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals("api" + i, matcher.matchValue("/tenant" + i + "/api/resource/" + i));
+            assertEquals("health" + i, matcher.matchValue("/tenant" + i + "/health"));
+            assertNull(matcher.matchValue("/tenant" + i + "/other"));
+        }
+        assertEquals(500, matcher.getPaths().size());
+    }
+
+}
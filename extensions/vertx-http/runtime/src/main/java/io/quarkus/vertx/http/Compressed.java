@@ -0,0 +1,21 @@
+package io.quarkus.vertx.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * If HTTP compression is enabled then the responses of the annotated route are always compressed, regardless of the
+ * configured media types and minimal size.
+ * <p>
+ * This annotation can be used on route methods and JAX-RS resource methods. If declared on a class then it applies to
+ * all routes declared on the class.
+ *
+ * @see Uncompressed
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface Compressed {
+
+}
@@ -0,0 +1,20 @@
+package io.quarkus.vertx.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The responses of the annotated route are never compressed, even if HTTP compression is enabled.
+ * <p>
+ * This annotation can be used on route methods and JAX-RS resource methods. If declared on a class then it applies to
+ * all routes declared on the class.
+ *
+ * @see Compressed
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface Uncompressed {
+
+}
@@ -0,0 +1,40 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class CompressionConfig {
+
+    /**
+     * If this is true then responses are compressed with gzip or deflate, depending on the {@code Accept-Encoding}
+     * header sent by the client.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The compression level, from {@code 1} (fastest) to {@code 9} (best compression).
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+
+    /**
+     * Responses with a {@code Content-Length} smaller than this value are not compressed.
+     * Responses without a {@code Content-Length}, i.e. chunked responses, are always compressed.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize minSize;
+
+    /**
+     * The media types of responses that are compressed.
+     * <p>
+     * Compression can be forced or disabled for a specific route with {@link io.quarkus.vertx.http.Compressed} and
+     * {@link io.quarkus.vertx.http.Uncompressed}.
+     */
+    @ConfigItem(defaultValue = "text/html,text/plain,text/xml,text/css,text/javascript,application/javascript,application/json,application/xml")
+    public List<String> mediaTypes;
+}
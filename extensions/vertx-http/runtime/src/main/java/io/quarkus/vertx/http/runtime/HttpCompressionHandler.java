@@ -0,0 +1,88 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Decides whether a response should be compressed by the HTTP server.
+ * <p>
+ * The server compresses every response that does not declare a {@code Content-Encoding}, so the responses that should
+ * not be compressed are marked with the {@code identity} encoding before the headers are written.
+ */
+public class HttpCompressionHandler implements Handler<RoutingContext> {
+
+    /**
+     * The routing context key of a {@link Boolean} that forces or disables the compression of the current response.
+     */
+    public static final String COMPRESSION_KEY = HttpCompressionHandler.class.getName() + ".compress";
+
+    private final Set<String> mediaTypes;
+    private final long minSize;
+
+    public HttpCompressionHandler(List<String> mediaTypes, long minSize) {
+        this.mediaTypes = new HashSet<>();
+        for (String mediaType : mediaTypes) {
+            this.mediaTypes.add(mediaType.trim().toLowerCase());
+        }
+        this.minSize = minSize;
+    }
+
+    /**
+     * Forces or disables the compression of the response to the given request.
+     *
+     * @param context
+     * @param compress
+     */
+    public static void setCompressed(RoutingContext context, boolean compress) {
+        context.put(COMPRESSION_KEY, compress);
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        context.addHeadersEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                MultiMap headers = context.response().headers();
+                if (headers.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+                    return;
+                }
+                Boolean compress = context.get(COMPRESSION_KEY);
+                if (compress == null ? !shouldCompress(headers) : !compress) {
+                    headers.set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+                }
+            }
+        });
+        context.next();
+    }
+
+    boolean shouldCompress(MultiMap headers) {
+        String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        int paramsIdx = contentType.indexOf(';');
+        if (paramsIdx != -1) {
+            contentType = contentType.substring(0, paramsIdx);
+        }
+        if (!mediaTypes.contains(contentType.trim().toLowerCase())) {
+            return false;
+        }
+        String contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength) >= minSize;
+            } catch (NumberFormatException e) {
+                return true;
+            }
+        }
+        return true;
+    }
+
+}
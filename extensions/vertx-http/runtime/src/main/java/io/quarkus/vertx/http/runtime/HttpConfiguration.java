@@ -134,6 +134,11 @@ public class HttpConfiguration {
      */
     public BodyConfig body;
 
+    /**
+     * Response compression settings
+     */
+    public CompressionConfig compression;
+
     /**
      * The encryption key that is used to store persistent logins (e.g. for form auth). Logins are stored in a persistent
      * cookie that is encrypted with AES-256 using a key derived from a SHA-256 hash of the key that is provided here.
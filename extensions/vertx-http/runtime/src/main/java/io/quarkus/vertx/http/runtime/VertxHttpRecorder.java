@@ -256,20 +256,22 @@ public class VertxHttpRecorder {
             });
         }
 
-        Handler<HttpServerRequest> root;
+        Router rootRouter;
         if (rootPath.equals("/")) {
-            if (hotReplacementHandler != null) {
-                router.route().order(-1).handler(hotReplacementHandler);
-            }
-            root = router;
+            rootRouter = router;
         } else {
-            Router mainRouter = Router.router(vertx.get());
-            mainRouter.mountSubRouter(rootPath, router);
-            if (hotReplacementHandler != null) {
-                mainRouter.route().order(-1).handler(hotReplacementHandler);
-            }
-            root = mainRouter;
+            rootRouter = Router.router(vertx.get());
+            rootRouter.mountSubRouter(rootPath, router);
+        }
+        if (hotReplacementHandler != null) {
+            rootRouter.route().order(-1).handler(hotReplacementHandler);
+        }
+        if (httpConfiguration.compression.enabled) {
+            // every response is compressed by the server, including the ones outside of the root path
+            rootRouter.route().order(Integer.MIN_VALUE).handler(new HttpCompressionHandler(
+                    httpConfiguration.compression.mediaTypes, httpConfiguration.compression.minSize.asLongValue()));
         }
+        Handler<HttpServerRequest> root = rootRouter;
 
         if (httpConfiguration.proxyAddressForwarding) {
             Handler<HttpServerRequest> delegate = root;
@@ -497,6 +499,7 @@ public class VertxHttpRecorder {
         serverOptions.setTcpQuickAck(httpConfiguration.tcpQuickAck);
         serverOptions.setTcpCork(httpConfiguration.tcpCork);
         serverOptions.setTcpFastOpen(httpConfiguration.tcpFastOpen);
+        setCompression(httpConfiguration, serverOptions);
 
         return serverOptions;
     }
@@ -586,6 +589,7 @@ public class VertxHttpRecorder {
         options.setTcpQuickAck(httpConfiguration.tcpQuickAck);
         options.setTcpCork(httpConfiguration.tcpCork);
         options.setTcpFastOpen(httpConfiguration.tcpFastOpen);
+        setCompression(httpConfiguration, options);
         return options;
     }
 
@@ -599,6 +603,7 @@ public class VertxHttpRecorder {
         setIdleTimeout(httpConfiguration, options);
         options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         options.setWebsocketSubProtocols(websocketSubProtocols);
+        setCompression(httpConfiguration, options);
         return options;
     }
 
@@ -608,6 +613,13 @@ public class VertxHttpRecorder {
         options.setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
     }
 
+    private static void setCompression(HttpConfiguration httpConfiguration, HttpServerOptions options) {
+        if (httpConfiguration.compression.enabled) {
+            options.setCompressionSupported(true);
+            options.setCompressionLevel(httpConfiguration.compression.level);
+        }
+    }
+
     public void warnIfPortChanged(HttpConfiguration config, int port) {
         if (config.port != port) {
             LOGGER.errorf(
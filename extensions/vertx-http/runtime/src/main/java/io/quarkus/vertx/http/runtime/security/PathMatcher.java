@@ -1,9 +1,11 @@
 package io.quarkus.vertx.http.runtime.security;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -14,21 +16,24 @@ import java.util.concurrent.ConcurrentMap;
  * <p>
  * /foo/bar
  * <p>
+ * The prefix paths are compiled into an immutable trie of path segments every time a prefix path is added or removed,
+ * so that matching a path neither locks nor allocates.
  *
  * @author Stuart Douglas
  */
 public class PathMatcher<T> {
 
     private static final String STRING_PATH_SEPARATOR = "/";
+    private static final char PATH_SEPARATOR = '/';
 
     private volatile T defaultHandler;
-    private final SubstringMap<T> paths = new SubstringMap<>();
+    private final Map<String, T> paths = new HashMap<>();
     private final ConcurrentMap<String, T> exactPathMatches = new ConcurrentHashMap<>();
 
     /**
-     * lengths of all registered paths
+     * The trie of all registered prefix paths
      */
-    private volatile int[] lengths = {};
+    private volatile Node<T> root = Node.empty();
 
     public PathMatcher(final T defaultHandler) {
         this.defaultHandler = defaultHandler;
@@ -50,29 +55,28 @@ public class PathMatcher<T> {
                 return new PathMatch<>(path, "", match);
             }
         }
+        Node<T> node = root.match(path);
+        if (node != null) {
+            return new PathMatch<>(node.path, path.substring(node.path.length()), node.value);
+        }
+        return new PathMatch<>("", path, defaultHandler);
+    }
 
-        int length = path.length();
-        final int[] lengths = this.lengths;
-        for (int i = 0; i < lengths.length; ++i) {
-            int pathLength = lengths[i];
-            if (pathLength == length) {
-                SubstringMap.SubstringMatch<T> next = paths.get(path, length);
-                if (next != null) {
-                    return new PathMatch<>(path, "", next.getValue());
-                }
-            } else if (pathLength < length) {
-                char c = path.charAt(pathLength);
-                if (c == '/') {
-
-                    //String part = path.substring(0, pathLength);
-                    SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
-                    if (next != null) {
-                        return new PathMatch<>(next.getKey(), path.substring(pathLength), next.getValue());
-                    }
-                }
+    /**
+     * Matches a path against the registered handlers. Unlike {@link #match(String)} this method does not allocate.
+     *
+     * @param path The relative path to match
+     * @return The value of the matching exact path, the value of the longest matching prefix path or the default handler
+     */
+    public T matchValue(String path) {
+        if (!exactPathMatches.isEmpty()) {
+            T match = getExactPath(path);
+            if (match != null) {
+                return match;
             }
         }
-        return new PathMatch<>("", path, defaultHandler);
+        Node<T> node = root.match(path);
+        return node != null ? node.value : defaultHandler;
     }
 
     /**
@@ -99,7 +103,7 @@ public class PathMatcher<T> {
 
         paths.put(path, handler);
 
-        buildLengths();
+        buildTrie();
         return this;
     }
 
@@ -115,38 +119,39 @@ public class PathMatcher<T> {
         return exactPathMatches.get(path);
     }
 
-    public T getPrefixPath(final String path) {
+    public synchronized T getPrefixPath(final String path) {
 
         // enable the prefix path mechanism to return the default handler
-        SubstringMap.SubstringMatch<T> match = paths.get(path);
+        T match = paths.get(path);
         if (PathMatcher.STRING_PATH_SEPARATOR.equals(path) && match == null) {
             return this.defaultHandler;
         }
-        if (match == null) {
-            return null;
-        }
 
         // return the value for the given path
-        return match.getValue();
+        return match;
     }
 
-    private void buildLengths() {
-        final Set<Integer> lengths = new TreeSet<>(new Comparator<Integer>() {
-            @Override
-            public int compare(Integer o1, Integer o2) {
-                return -o1.compareTo(o2);
+    private void buildTrie() {
+        NodeBuilder<T> builder = new NodeBuilder<>();
+        for (Map.Entry<String, T> entry : paths.entrySet()) {
+            String path = entry.getKey();
+            NodeBuilder<T> current = builder;
+            int start = 0;
+            while (true) {
+                int end = path.indexOf(PATH_SEPARATOR, start);
+                if (end == -1) {
+                    end = path.length();
+                }
+                current = current.children.computeIfAbsent(path.substring(start, end), s -> new NodeBuilder<>());
+                if (end == path.length()) {
+                    break;
+                }
+                start = end + 1;
             }
-        });
-        for (String p : paths.keys()) {
-            lengths.add(p.length());
-        }
-
-        int[] lengthArray = new int[lengths.size()];
-        int pos = 0;
-        for (int i : lengths) {
-            lengthArray[pos++] = i;
+            current.path = path;
+            current.value = entry.getValue();
         }
-        this.lengths = lengthArray;
+        this.root = builder.build();
     }
 
     @Deprecated
@@ -166,7 +171,7 @@ public class PathMatcher<T> {
 
         paths.remove(path);
 
-        buildLengths();
+        buildTrie();
         return this;
     }
 
@@ -183,13 +188,13 @@ public class PathMatcher<T> {
     public synchronized PathMatcher clearPaths() {
         paths.clear();
         exactPathMatches.clear();
-        this.lengths = new int[0];
+        this.root = Node.empty();
         defaultHandler = null;
         return this;
     }
 
-    public Map<String, T> getPaths() {
-        return paths.toMap();
+    public synchronized Map<String, T> getPaths() {
+        return new HashMap<>(paths);
     }
 
     public static final class PathMatch<T> {
@@ -216,4 +221,112 @@ public class PathMatcher<T> {
         }
     }
 
+    /**
+     * A node of the path segment trie. A prefix path matches if all its segments match the leading segments of the path,
+     * i.e. {@code /foo} matches {@code /foo} and {@code /foo/bar} but not {@code /foobar}.
+     * <p>
+     * The children are sorted by the hash code of their segment so that a child can be found with a binary search on the
+     * hash computed directly from the matched path.
+     */
+    private static final class Node<T> {
+
+        @SuppressWarnings("rawtypes")
+        private static final Node EMPTY = new Node<>(null, null, new int[0], new String[0], new Node[0]);
+
+        @SuppressWarnings("unchecked")
+        static <T> Node<T> empty() {
+            return EMPTY;
+        }
+
+        /**
+         * The registered prefix path or {@code null} if no prefix path ends with this node
+         */
+        final String path;
+        final T value;
+        final int[] hashes;
+        final String[] segments;
+        final Node<T>[] children;
+
+        Node(String path, T value, int[] hashes, String[] segments, Node<T>[] children) {
+            this.path = path;
+            this.value = value;
+            this.hashes = hashes;
+            this.segments = segments;
+            this.children = children;
+        }
+
+        /**
+         * @param path
+         * @return the node of the longest prefix path that matches the given path, or {@code null}
+         */
+        Node<T> match(String path) {
+            Node<T> result = null;
+            Node<T> current = this;
+            int length = path.length();
+            int start = 0;
+            while (current.children.length > 0) {
+                int end = path.indexOf(PATH_SEPARATOR, start);
+                if (end == -1) {
+                    end = length;
+                }
+                current = current.child(path, start, end);
+                if (current == null) {
+                    break;
+                }
+                if (current.path != null) {
+                    result = current;
+                }
+                if (end == length) {
+                    break;
+                }
+                start = end + 1;
+            }
+            return result;
+        }
+
+        private Node<T> child(String path, int start, int end) {
+            // Same as String.hashCode() of the segment
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+            int idx = Arrays.binarySearch(hashes, hash);
+            if (idx < 0) {
+                return null;
+            }
+            // Multiple segments may have the same hash
+            while (idx > 0 && hashes[idx - 1] == hash) {
+                idx--;
+            }
+            int segmentLength = end - start;
+            for (; idx < hashes.length && hashes[idx] == hash; idx++) {
+                String segment = segments[idx];
+                if (segment.length() == segmentLength && path.regionMatches(start, segment, 0, segmentLength)) {
+                    return children[idx];
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class NodeBuilder<T> {
+
+        final Map<String, NodeBuilder<T>> children = new HashMap<>();
+        String path;
+        T value;
+
+        @SuppressWarnings("unchecked")
+        Node<T> build() {
+            List<String> segments = new ArrayList<>(children.keySet());
+            Collections.sort(segments, (s1, s2) -> Integer.compare(s1.hashCode(), s2.hashCode()));
+            int[] hashes = new int[segments.size()];
+            Node<T>[] nodes = new Node[segments.size()];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = segments.get(i).hashCode();
+                nodes[i] = children.get(segments.get(i)).build();
+            }
+            return new Node<>(path, value, hashes, segments.toArray(new String[0]), nodes);
+        }
+    }
+
 }
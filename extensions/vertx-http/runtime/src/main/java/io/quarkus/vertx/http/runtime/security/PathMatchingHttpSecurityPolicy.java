@@ -28,7 +28,7 @@ import io.vertx.ext.web.RoutingContext;
 @Singleton
 public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
 
-    private final PathMatcher<List<HttpMatcher>> pathMatcher = new PathMatcher<>();
+    private final PathMatcher<PathPolicies> pathMatcher = new PathMatcher<>();
 
     @Override
     public CompletionStage<CheckResult> checkPermission(RoutingContext routingContext, SecurityIdentity identity,
@@ -85,52 +85,75 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
             }
 
             for (String path : entry.getValue().paths.orElse(Collections.emptyList())) {
-                if (tempMap.containsKey(path)) {
-                    HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                            checker);
-                    tempMap.get(path).add(m);
-                } else {
-                    HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                            checker);
-                    List<HttpMatcher> perms = new ArrayList<>();
-                    tempMap.put(path, perms);
-                    perms.add(m);
-                    if (path.endsWith("/*")) {
-                        String stripped = path.substring(0, path.length() - 2);
-                        pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
-                    } else if (path.endsWith("*")) {
-                        pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
-                    } else {
-                        pathMatcher.addExactPath(path, perms);
-                    }
-                }
+                HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
+                        checker);
+                tempMap.computeIfAbsent(path, p -> new ArrayList<>()).add(m);
+            }
+        }
+
+        for (Map.Entry<String, List<HttpMatcher>> entry : tempMap.entrySet()) {
+            String path = entry.getKey();
+            PathPolicies policies = new PathPolicies(entry.getValue());
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, policies);
+            } else if (path.endsWith("*")) {
+                pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), policies);
+            } else {
+                pathMatcher.addExactPath(path, policies);
             }
         }
     }
 
     public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(request.path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+        PathPolicies toCheck = pathMatcher.matchValue(request.path());
+        if (toCheck == null) {
             return Collections.emptyList();
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(request.method().toString())) {
-                methodMatch.add(i.checker);
+        return toCheck.get(request.method().name());
+    }
+
+    /**
+     * The policies of a path, grouped by HTTP method when the path is registered, so that the policies of a request
+     * can be found without allocation.
+     */
+    static class PathPolicies {
+
+        final Map<String, List<HttpSecurityPolicy>> methodPolicies;
+        final List<HttpSecurityPolicy> noMethodPolicies;
+
+        PathPolicies(List<HttpMatcher> matchers) {
+            Map<String, List<HttpSecurityPolicy>> methodPolicies = new HashMap<>();
+            List<HttpSecurityPolicy> noMethodPolicies = new ArrayList<>();
+            for (HttpMatcher i : matchers) {
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethodPolicies.add(i.checker);
+                } else {
+                    for (String method : i.methods) {
+                        methodPolicies.computeIfAbsent(method, m -> new ArrayList<>()).add(i.checker);
+                    }
+                }
+            }
+            this.methodPolicies = methodPolicies;
+            if (!noMethodPolicies.isEmpty()) {
+                this.noMethodPolicies = noMethodPolicies;
+            } else if (!methodPolicies.isEmpty()) {
+                //we deny if we did not match due to method filtering
+                this.noMethodPolicies = Collections.singletonList(DenySecurityPolicy.INSTANCE);
+            } else {
+                this.noMethodPolicies = Collections.emptyList();
             }
-        }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
         }
 
+        List<HttpSecurityPolicy> get(String method) {
+            if (!methodPolicies.isEmpty()) {
+                List<HttpSecurityPolicy> policies = methodPolicies.get(method);
+                if (policies != null) {
+                    return policies;
+                }
+            }
+            return noMethodPolicies;
+        }
     }
 
     static class HttpMatcher {
@@ -57,6 +57,8 @@ import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.vertx.http.Compressed;
+import io.quarkus.vertx.http.Uncompressed;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
 import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
@@ -86,6 +88,8 @@ class VertxWebProcessor {
     private static final DotName RX_ROUTING_CONTEXT = DotName
             .createSimple(io.vertx.reactivex.ext.web.RoutingContext.class.getName());
     private static final DotName ROUTING_EXCHANGE = DotName.createSimple(RoutingExchange.class.getName());
+    private static final DotName COMPRESSED = DotName.createSimple(Compressed.class.getName());
+    private static final DotName UNCOMPRESSED = DotName.createSimple(Uncompressed.class.getName());
     private static final String HANDLER_SUFFIX = "_RouteHandler";
     private static final DotName[] ROUTE_PARAM_TYPES = { ROUTING_CONTEXT, RX_ROUTING_CONTEXT, ROUTING_EXCHANGE };
     private static final DotName[] ROUTE_FILTER_TYPES = { ROUTING_CONTEXT };
@@ -189,6 +193,10 @@ class VertxWebProcessor {
             String handlerClass = generateHandler(businessMethod.getBean(), businessMethod.getMethod(), classOutput);
             reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, handlerClass));
             Handler<RoutingContext> routingHandler = recorder.createHandler(handlerClass);
+            Boolean compress = isCompressed(businessMethod.getMethod());
+            if (compress != null) {
+                routingHandler = recorder.compressRouteHandler(routingHandler, compress);
+            }
 
             AnnotationInstance routeBaseAnnotation = businessMethod.getRouteBase();
             String pathPrefix = null;
@@ -295,6 +303,27 @@ class VertxWebProcessor {
         detectConflictingRoutes(matchers);
     }
 
+    /**
+     * @param method
+     * @return {@code true} if the method or its declaring class is annotated with {@link Compressed}, {@code false} if
+     *         annotated with {@link Uncompressed}, {@code null} otherwise
+     */
+    private static Boolean isCompressed(MethodInfo method) {
+        if (method.hasAnnotation(COMPRESSED)) {
+            return true;
+        }
+        if (method.hasAnnotation(UNCOMPRESSED)) {
+            return false;
+        }
+        if (method.declaringClass().classAnnotation(COMPRESSED) != null) {
+            return true;
+        }
+        if (method.declaringClass().classAnnotation(UNCOMPRESSED) != null) {
+            return false;
+        }
+        return null;
+    }
+
     @BuildStep
     AnnotationsTransformerBuildItem annotationTransformer(CustomScopeAnnotationsBuildItem scopes) {
         return new AnnotationsTransformerBuildItem(new AnnotationsTransformer() {
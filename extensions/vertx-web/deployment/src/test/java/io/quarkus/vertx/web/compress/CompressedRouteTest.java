@@ -0,0 +1,98 @@
+package io.quarkus.vertx.web.compress;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.Compressed;
+import io.quarkus.vertx.http.Uncompressed;
+import io.quarkus.vertx.web.Route;
+import io.restassured.response.Response;
+import io.vertx.ext.web.RoutingContext;
+
+public class CompressedRouteTest {
+
+    static final String LARGE_BODY = largeBody();
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CompressedRoutes.class, UncompressedRoutes.class)
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true"), "application.properties"));
+
+    @Test
+    public void testCompressionOverride() {
+        assertCompressed("/default", true, LARGE_BODY);
+        assertCompressed("/compressed", true, "small");
+        assertCompressed("/uncompressed", false, LARGE_BODY);
+        assertCompressed("/class-uncompressed", false, LARGE_BODY);
+        assertCompressed("/class-compressed", true, LARGE_BODY);
+    }
+
+    static void assertCompressed(String path, boolean compressed, String expectedBody) {
+        Response response = given().header("Accept-Encoding", "gzip").get(path);
+        response.then().statusCode(200);
+        if (compressed) {
+            assertEquals("gzip", response.header("Content-Encoding"));
+        } else {
+            assertNotEquals("gzip", response.header("Content-Encoding"));
+        }
+        assertEquals(expectedBody, response.asString());
+    }
+
+    static String largeBody() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            builder.append("compress me ");
+        }
+        return builder.toString();
+    }
+
+    @ApplicationScoped
+    static class CompressedRoutes {
+
+        @Route(path = "/default")
+        void defaultCompression(RoutingContext context) {
+            context.response().putHeader("Content-Type", "text/plain").end(LARGE_BODY);
+        }
+
+        @Compressed
+        @Route(path = "/compressed")
+        void compressed(RoutingContext context) {
+            context.response().putHeader("Content-Type", "text/plain").end("small");
+        }
+
+        @Uncompressed
+        @Route(path = "/uncompressed")
+        void uncompressed(RoutingContext context) {
+            context.response().putHeader("Content-Type", "text/plain").end(LARGE_BODY);
+        }
+
+    }
+
+    @Uncompressed
+    @ApplicationScoped
+    static class UncompressedRoutes {
+
+        @Route(path = "/class-uncompressed")
+        void uncompressed(RoutingContext context) {
+            context.response().putHeader("Content-Type", "text/plain").end(LARGE_BODY);
+        }
+
+        @Compressed
+        @Route(path = "/class-compressed")
+        void compressed(RoutingContext context) {
+            context.response().putHeader("Content-Type", "text/plain").end(LARGE_BODY);
+        }
+
+    }
+}
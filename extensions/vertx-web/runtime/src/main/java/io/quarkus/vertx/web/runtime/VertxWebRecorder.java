@@ -4,6 +4,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.function.Function;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.HttpCompressionHandler;
 import io.quarkus.vertx.http.runtime.RouterProducer;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
@@ -29,6 +30,16 @@ public class VertxWebRecorder {
         }
     }
 
+    public Handler<RoutingContext> compressRouteHandler(Handler<RoutingContext> handler, boolean compress) {
+        return new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext context) {
+                HttpCompressionHandler.setCompressed(context, compress);
+                handler.handle(context);
+            }
+        };
+    }
+
     public Function<Router, io.vertx.ext.web.Route> createRouteFunction(RouteMatcher matcher,
             Handler<RoutingContext> bodyHandler) {
         return new Function<Router, io.vertx.ext.web.Route>() {
@@ -85,6 +85,8 @@ public class BeanGenerator extends AbstractGenerator {
     protected final Predicate<DotName> applicationClassPredicate;
     protected final PrivateMembersCollector privateMembers;
 
+    private int requestContextIndex;
+
     public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources) {
         super(generateSources);
@@ -201,6 +203,7 @@ public class BeanGenerator extends AbstractGenerator {
         constructor.returnValue(null);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerTypeName, Collections.emptyMap(), reflectionRegistration,
@@ -281,6 +284,7 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerTypeName, injectionPointToProviderSupplierField, reflectionRegistration,
@@ -375,6 +379,7 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerTypeName, injectionPointToProviderField, reflectionRegistration,
@@ -456,6 +461,7 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerTypeName, null, reflectionRegistration, isApplicationClass, baseName);
@@ -1576,6 +1582,19 @@ public class BeanGenerator extends AbstractGenerator {
                         getAlternativePriority.load(bean.getAlternativePriority())));
     }
 
+    /**
+     * The request scoped beans are assigned dense indexes in the order they are generated.
+     *
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        if (!BuiltinScope.REQUEST.is(bean.getScope())) {
+            return;
+        }
+        MethodCreator getIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class).setModifiers(ACC_PUBLIC);
+        getIndex.returnValue(getIndex.load(requestContextIndex++));
+    }
+
     protected void implementIsDefaultBean(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator isDefaultBean = beanCreator.getMethodCreator("isDefaultBean", boolean.class)
                 .setModifiers(ACC_PUBLIC);
@@ -25,6 +25,10 @@ final class FieldDescriptors {
             "EMPTY_LONG_ARRAY",
             long[].class);
 
+    static final FieldDescriptor ANNOTATION_LITERALS_EMPTY_OBJECT_ARRAY = FieldDescriptor.of(AnnotationLiterals.class,
+            "EMPTY_OBJECT_ARRAY",
+            Object[].class);
+
     static final FieldDescriptor ANNOTATION_LITERALS_EMPTY_INT_ARRAY = FieldDescriptor.of(AnnotationLiterals.class,
             "EMPTY_INT_ARRAY",
             int[].class);
@@ -193,7 +193,7 @@ final class MethodDescriptors {
 
     static final MethodDescriptor SUBCLASS_METHOD_METADATA_CONSTRUCTOR = MethodDescriptor.ofConstructor(
             SubclassMethodMetadata.class,
-            List.class, Method.class, Set.class);
+            List.class, Method.class, Set.class, Function.class);
 
     static final MethodDescriptor CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES = MethodDescriptor.ofMethod(
             CreationalContextImpl.class,
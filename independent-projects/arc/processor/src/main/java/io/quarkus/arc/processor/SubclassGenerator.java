@@ -66,6 +66,8 @@ public class SubclassGenerator extends AbstractGenerator {
             Method.class);
     protected static final FieldDescriptor FIELD_METADATA_CHAIN = FieldDescriptor.of(SubclassMethodMetadata.class, "chain",
             List.class);
+    protected static final FieldDescriptor FIELD_METADATA_FORWARD = FieldDescriptor.of(SubclassMethodMetadata.class,
+            "aroundInvokeForward", Function.class);
     protected static final FieldDescriptor FIELD_METADATA_BINDINGS = FieldDescriptor.of(SubclassMethodMetadata.class,
             "bindings", Set.class);
 
@@ -304,9 +306,12 @@ public class SubclassGenerator extends AbstractGenerator {
             ResultHandle bindingsHandle = bindings.computeIfAbsent(
                     interceptedMethod.bindings.stream().map(BindingKey::new).collect(Collectors.toList()), bindingsFun);
 
+            // 4. Forwarding function, shared by all invocations of the intercepted method
+            ResultHandle forwardHandle = createForwardingFunction(constructor, method, providerTypeName);
+
             //Now create SubclassMethodMetadata for the given intercepted method
             ResultHandle methodMetadataHandle = constructor.newInstance(MethodDescriptors.SUBCLASS_METHOD_METADATA_CONSTRUCTOR,
-                    chainHandle, methodHandle, bindingsHandle);
+                    chainHandle, methodHandle, bindingsHandle, forwardHandle);
             // metadata.put("m1", new SubclassMethodMetadata(...))
             constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, metadataHandle, methodIdHandle, methodMetadataHandle);
 
@@ -331,13 +336,6 @@ public class SubclassGenerator extends AbstractGenerator {
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator forwardMethod = subclass.getMethodCreator(originalMethodDescriptor);
 
-        // Params
-        // Object[] params = new Object[] {p1}
-        ResultHandle paramsHandle = forwardMethod.newArray(Object.class, forwardMethod.load(method.parameters().size()));
-        for (int i = 0; i < method.parameters().size(); i++) {
-            forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
-        }
-
         // if(!this.bean == null) return super.foo()
         BytecodeCreator notConstructed = forwardMethod
                 .ifNull(forwardMethod.readInstanceField(metadataField, forwardMethod.getThis())).trueBranch();
@@ -355,25 +353,6 @@ public class SubclassGenerator extends AbstractGenerator {
                     notConstructed.invokeSpecialMethod(superDescriptor, notConstructed.getThis(), params));
         }
 
-        // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
-        BytecodeCreator funcBytecode = func.getBytecode();
-        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
-        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
-        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
-                ctxHandle);
-        // autoboxing is handled inside Gizmo
-        for (int i = 0; i < superParamHandles.length; i++) {
-            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
-        }
-        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
-                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
-                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
-                                .toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
-        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
@@ -407,16 +386,55 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
+        // Params
+        // Object[] params = new Object[] {p1}
+        ResultHandle paramsHandle;
+        if (method.parameters().isEmpty()) {
+            paramsHandle = tryCatch.readStaticField(FieldDescriptors.ANNOTATION_LITERALS_EMPTY_OBJECT_ARRAY);
+        } else {
+            paramsHandle = tryCatch.newArray(Object.class, tryCatch.load(method.parameters().size()));
+            for (int i = 0; i < method.parameters().size(); i++) {
+                tryCatch.writeArrayValue(paramsHandle, i, tryCatch.getMethodParam(i));
+            }
+        }
+
         // InvocationContexts.performAroundInvoke(...)
         ResultHandle methodIdHandle = tryCatch.load(methodId);
         ResultHandle methodMetadataHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
                 tryCatch.readInstanceField(metadataField, tryCatch.getThis()), methodIdHandle);
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
+                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle),
+                tryCatch.readInstanceField(FIELD_METADATA_FORWARD, methodMetadataHandle), paramsHandle,
                 tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
                 tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
-        tryCatch.returnValue(superResult != null ? ret : null);
+        tryCatch.returnValue(isVoid(method) ? null : ret);
+    }
+
+    private ResultHandle createForwardingFunction(MethodCreator constructor, MethodInfo method, String providerTypeName) {
+        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
+        FunctionCreator func = constructor.createFunction(Function.class);
+        BytecodeCreator funcBytecode = func.getBytecode();
+        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
+        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
+        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
+                ctxHandle);
+        // autoboxing is handled inside Gizmo
+        for (int i = 0; i < superParamHandles.length; i++) {
+            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+        }
+        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
+                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
+                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
+                                .toArray(new String[0])),
+                constructor.getThis(), superParamHandles);
+        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        return func.getInstance();
+    }
+
+    private static boolean isVoid(MethodInfo method) {
+        return method.returnType().kind() == Type.Kind.VOID;
     }
 
     /**
@@ -105,4 +105,14 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned by the container to each {@link javax.enterprise.context.RequestScoped} bean so that the
+     * request context can store the contextual instances in an array.
+     *
+     * @return the index of the request scoped bean, or {@code -1}
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
 }
@@ -6,6 +6,7 @@ public final class AnnotationLiterals {
     public static final String[] EMPTY_STRING_ARRAY = new String[0];
     public static final int[] EMPTY_INT_ARRAY = new int[0];
     public static final long[] EMPTY_LONG_ARRAY = new long[0];
+    public static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
 
     private AnnotationLiterals() {
     }
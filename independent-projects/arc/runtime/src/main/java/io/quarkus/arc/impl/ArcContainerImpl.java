@@ -12,7 +12,10 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.ResourceReferenceProvider;
 import io.quarkus.arc.impl.ArcCDIProvider.ArcCDI;
+import io.quarkus.arc.impl.EventImpl.Notifier;
+import io.quarkus.arc.impl.EventImpl.NotifierKey;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
@@ -27,11 +30,14 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.enterprise.context.ApplicationScoped;
@@ -70,6 +76,8 @@ public class ArcContainerImpl implements ArcContainer {
     private final AtomicBoolean running;
 
     private final List<InjectableBean<?>> beans;
+    // Beans indexed by the raw types of their bean types, used to narrow down the candidates in typesafe resolution
+    private final Map<Class<?>, List<InjectableBean<?>>> beansByRawType;
     private final List<InjectableInterceptor<?>> interceptors;
     private final List<InjectableObserverMethod<?>> observers;
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
@@ -86,6 +94,11 @@ public class ArcContainerImpl implements ArcContainer {
 
     private final List<ResourceReferenceProvider> resourceProviders;
 
+    // Notifiers shared by all Event instances
+    private final ConcurrentMap<NotifierKey, Notifier<?>> notifiers;
+    // Event used by BeanManager.fireEvent() if no qualifiers are specified
+    private final EventImpl<Object> beanManagerEvent;
+
     private volatile ExecutorService executorService;
 
     public ArcContainerImpl() {
@@ -98,9 +111,7 @@ public class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new ArrayList<>();
-        contexts.add(requestContext);
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -132,11 +143,17 @@ public class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans();
 
+        requestContext = new RequestContext(beans);
+        contexts.add(0, requestContext);
+        beansByRawType = indexBeansByRawType(beans);
+
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        notifiers = new ConcurrentHashMap<>();
+        beanManagerEvent = new EventImpl<>(Object.class, new HashSet<>());
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -341,7 +358,9 @@ public class ArcContainerImpl implements ArcContainer {
             Reflections.clearCaches();
             contexts.clear();
             beans.clear();
+            beansByRawType.clear();
             resolved.clear();
+            notifiers.clear();
             observers.clear();
             running.set(false);
 
@@ -548,7 +567,11 @@ public class ArcContainerImpl implements ArcContainer {
 
     List<InjectableBean<?>> getMatchingBeans(Resolvable resolvable) {
         List<InjectableBean<?>> matching = new ArrayList<>();
-        for (InjectableBean<?> bean : beans) {
+        Class<?> rawType = getIndexedRawType(resolvable.requiredType);
+        // Only the beans that have a bean type with the same raw type can match
+        List<InjectableBean<?>> candidates = rawType != null ? beansByRawType.getOrDefault(rawType, Collections.emptyList())
+                : beans;
+        for (InjectableBean<?> bean : candidates) {
             if (matches(bean, resolvable.requiredType, resolvable.qualifiers)) {
                 matching.add(bean);
             }
@@ -556,6 +579,40 @@ public class ArcContainerImpl implements ArcContainer {
         return matching;
     }
 
+    private static Map<Class<?>, List<InjectableBean<?>>> indexBeansByRawType(List<InjectableBean<?>> beans) {
+        Map<Class<?>, List<InjectableBean<?>>> index = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            for (Type type : bean.getTypes()) {
+                Class<?> rawType = getIndexedRawType(type);
+                if (rawType == null) {
+                    // Such a bean type is never assignable to a required type
+                    continue;
+                }
+                List<InjectableBean<?>> indexed = index.computeIfAbsent(rawType, k -> new ArrayList<>());
+                if (indexed.isEmpty() || indexed.get(indexed.size() - 1) != bean) {
+                    indexed.add(bean);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 
+     * @param type
+     * @return the raw type used to index the bean types or {@code null} if not applicable
+     * @see BeanTypeAssignabilityRules
+     */
+    private static Class<?> getIndexedRawType(Type type) {
+        if (type instanceof Class) {
+            return Types.boxedClass((Class<?>) type);
+        }
+        if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() instanceof Class) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        return null;
+    }
+
     List<InjectableBean<?>> getMatchingBeans(String name) {
         List<InjectableBean<?>> matching = new ArrayList<>();
         for (InjectableBean<?> bean : beans) {
@@ -664,6 +721,15 @@ public class ArcContainerImpl implements ArcContainer {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    <T> Notifier<T> getNotifier(NotifierKey key, Function<NotifierKey, Notifier<?>> notifierFunction) {
+        return (Notifier<T>) notifiers.computeIfAbsent(key, notifierFunction);
+    }
+
+    EventImpl<Object> getBeanManagerEvent() {
+        return beanManagerEvent;
+    }
+
     static ArcContainerImpl instance() {
         return unwrap(Arc.container());
     }
@@ -121,7 +121,12 @@ public class BeanManagerImpl implements BeanManager {
 
     @Override
     public void fireEvent(Object event, Annotation... qualifiers) {
-        getEvent().select(qualifiers).fire(event);
+        if (qualifiers.length == 0) {
+            // The notifiers of this event are cached per runtime type of the event object
+            ArcContainerImpl.instance().getBeanManagerEvent().fire(event);
+        } else {
+            getEvent().select(qualifiers).fire(event);
+        }
     }
 
     @Override
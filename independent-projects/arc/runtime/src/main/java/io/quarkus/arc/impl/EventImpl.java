@@ -109,7 +109,13 @@ class EventImpl<T> implements Event<T> {
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, this::getSharedNotifier);
+    }
+
+    private Notifier<? super T> getSharedNotifier(Class<?> runtimeType) {
+        // Event instances are often short-lived, e.g. created by Event.select(), so the notifiers are shared
+        return ArcContainerImpl.unwrap(Arc.container()).getNotifier(new NotifierKey(eventType, runtimeType, qualifiers),
+                k -> createNotifier(runtimeType));
     }
 
     @Override
@@ -199,6 +205,40 @@ class EventImpl<T> implements Event<T> {
         }
     }
 
+    static final class NotifierKey {
+
+        private final Type eventType;
+        private final Class<?> runtimeType;
+        private final Set<Annotation> qualifiers;
+        private final int hashCode;
+
+        NotifierKey(Type eventType, Class<?> runtimeType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.runtimeType = runtimeType;
+            this.qualifiers = qualifiers;
+            this.hashCode = Objects.hash(eventType, runtimeType, qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NotifierKey)) {
+                return false;
+            }
+            NotifierKey other = (NotifierKey) obj;
+            return runtimeType.equals(other.runtimeType) && eventType.equals(other.eventType)
+                    && qualifiers.equals(other.qualifiers);
+        }
+
+    }
+
     static class Notifier<T> {
 
         private final Class<?> runtimeType;
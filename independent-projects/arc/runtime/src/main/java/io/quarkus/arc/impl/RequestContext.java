@@ -6,11 +6,15 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
@@ -32,13 +36,32 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<ContextInstances> currentContext = new ThreadLocal<>();
+
+    // request scoped beans indexed by InjectableBean#getRequestContextIndex()
+    private final InjectableBean<?>[] indexedBeans;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    public RequestContext(Collection<InjectableBean<?>> beans) {
+        int size = 0;
+        for (InjectableBean<?> bean : beans) {
+            size = Math.max(size, bean.getRequestContextIndex() + 1);
+        }
+        this.indexedBeans = new InjectableBean<?>[size];
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index >= 0) {
+                if (indexedBeans[index] == null) {
+                    indexedBeans[index] = bean;
+                } else {
+                    // the instances of this bean are stored in the map
+                    LOGGER.debugf("Duplicate request context index %s: %s", index, bean);
+                }
+            }
+        }
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,17 +78,18 @@ class RequestContext implements ManagedContext {
         if (contextual == null) {
             throw new IllegalArgumentException("Contextual parameter must not be null");
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        int index = indexOf(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(index, contextual);
         if (instance == null && creationalContext != null) {
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            ctx.put(index, contextual, instance);
         }
         return instance != null ? instance.get() : null;
     }
@@ -82,12 +106,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        ContextInstanceHandle<?> instance = ctx.remove(indexOf(contextual), contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -96,7 +120,7 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new ContextInstances(indexedBeans.length));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -110,7 +134,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -125,7 +149,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx != null) {
             synchronized (ctx) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -152,6 +176,16 @@ class RequestContext implements ManagedContext {
         }
     }
 
+    private int indexOf(Contextual<?> contextual) {
+        if (contextual instanceof InjectableBean) {
+            int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+            if (index >= 0 && index < indexedBeans.length && indexedBeans[index] == contextual) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
     private void fireIfNotEmpty(LazyValue<Notifier<Object>> value) {
         Notifier<Object> notifier = value.get();
         if (!notifier.isEmpty()) {
@@ -179,9 +213,9 @@ class RequestContext implements ManagedContext {
 
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private final ContextInstances value;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
+        RequestContextState(ContextInstances value) {
             this.value = value;
         }
 
@@ -193,4 +227,76 @@ class RequestContext implements ManagedContext {
 
     }
 
+    /**
+     * The contextual instances of a request. The instances of the indexed beans are stored in an array, the others in a map
+     * created lazily.
+     */
+    static final class ContextInstances {
+
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> indexed;
+
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        ContextInstances(int size) {
+            this.indexed = new AtomicReferenceArray<>(size);
+        }
+
+        ContextInstanceHandle<?> get(int index, Contextual<?> contextual) {
+            if (index >= 0) {
+                return indexed.get(index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(int index, Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            if (index >= 0) {
+                indexed.set(index, instance);
+            } else {
+                others().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(int index, Contextual<?> contextual) {
+            if (index >= 0) {
+                return indexed.getAndSet(index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        List<ContextInstanceHandle<?>> values() {
+            List<ContextInstanceHandle<?>> values = new ArrayList<>();
+            for (int i = 0; i < indexed.length(); i++) {
+                ContextInstanceHandle<?> instance = indexed.get(i);
+                if (instance != null) {
+                    values.add(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                values.addAll(map.values());
+            }
+            return values;
+        }
+
+        void clear() {
+            for (int i = 0; i < indexed.length(); i++) {
+                indexed.set(i, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                map.clear();
+            }
+        }
+
+        private synchronized ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            if (others == null) {
+                others = new ConcurrentHashMap<>();
+            }
+            return others;
+        }
+
+    }
+
 }
@@ -4,17 +4,22 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import javax.interceptor.InvocationContext;
 
 public class SubclassMethodMetadata {
 
     public final List<InterceptorInvocation> chain;
     public final Method method;
     public final Set<Annotation> bindings;
+    public final Function<InvocationContext, Object> aroundInvokeForward;
 
-    public SubclassMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings) {
+    public SubclassMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings,
+            Function<InvocationContext, Object> aroundInvokeForward) {
         this.chain = chain;
         this.method = method;
         this.bindings = bindings;
+        this.aroundInvokeForward = aroundInvokeForward;
     }
 
 }
@@ -0,0 +1,113 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.inject.spi.Bean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestContextIndexTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class);
+
+    @Test
+    public void testIndexes() {
+        ArcContainer arc = Arc.container();
+        Set<Integer> indexes = new HashSet<>();
+        for (Class<?> beanClass : new Class<?>[] { Alpha.class, Bravo.class }) {
+            int index = arc.instance(beanClass).getBean().getRequestContextIndex();
+            assertTrue(index >= 0 && index < 2, beanClass + ": " + index);
+            assertTrue(indexes.add(index));
+        }
+        assertEquals(-1, arc.instance(Charlie.class).getBean().getRequestContextIndex());
+    }
+
+    @Test
+    public void testStateAndDestroy() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        String alphaId = arc.instance(Alpha.class).get().getId();
+        String bravoId = arc.instance(Bravo.class).get().getId();
+        assertNotEquals(alphaId, bravoId);
+        InjectableContext.ContextState state = requestContext.getState();
+        assertEquals(2, state.getContextualInstances().size());
+        requestContext.deactivate();
+
+        // the instances are restored with the state
+        requestContext.activate(state);
+        assertEquals(alphaId, arc.instance(Alpha.class).get().getId());
+
+        // destroy a single instance
+        Bean<?> alphaBean = arc.instance(Alpha.class).getBean();
+        requestContext.destroy(alphaBean);
+        assertNull(requestContext.get(alphaBean));
+        assertEquals(bravoId, arc.instance(Bravo.class).get().getId());
+        assertNotEquals(alphaId, arc.instance(Alpha.class).get().getId());
+
+        Bravo.DESTROYED.set(false);
+        requestContext.terminate();
+        assertTrue(Bravo.DESTROYED.get());
+        assertFalse(requestContext.isActive());
+    }
+
+    @RequestScoped
+    static class Alpha {
+
+        private String id;
+
+        Alpha() {
+            this.id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+    @RequestScoped
+    static class Bravo {
+
+        static final AtomicBoolean DESTROYED = new AtomicBoolean();
+
+        private String id;
+
+        Bravo() {
+            this.id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.set(true);
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Charlie {
+
+    }
+
+}
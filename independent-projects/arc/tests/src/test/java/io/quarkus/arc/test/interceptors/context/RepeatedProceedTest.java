@@ -0,0 +1,79 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Priority;
+import javax.enterprise.context.Dependent;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RepeatedProceedTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class,
+            RepeatingInterceptor.class, CountingInterceptor.class);
+
+    @Test
+    public void testRepeatedProceed() {
+        CountingInterceptor.COUNTER.set(0);
+        SimpleBean bean1 = Arc.container().instance(SimpleBean.class).get();
+        SimpleBean bean2 = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("1:bar|2:bar", bean1.foo("bar"));
+        assertEquals("3:baz|4:baz", bean2.foo("baz"));
+        assertEquals("5:ping|6:ping", bean1.ping());
+        assertEquals(6, CountingInterceptor.COUNTER.get());
+        assertEquals(4, bean1.invocations);
+        assertEquals(2, bean2.invocations);
+    }
+
+    @Simple
+    @Dependent
+    static class SimpleBean {
+
+        int invocations;
+
+        String foo(String value) {
+            invocations++;
+            return value;
+        }
+
+        String ping() {
+            invocations++;
+            return "ping";
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class RepeatingInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            // The chain may be executed repeatedly
+            return ctx.proceed() + "|" + ctx.proceed();
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class CountingInterceptor {
+
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return COUNTER.incrementAndGet() + ":" + ctx.proceed();
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SharedNotifierTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(MyQualifier.class, StringObserver.class,
+            StringProducer.class);
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testNotifiers() {
+        BeanManager beanManager = Arc.container().beanManager();
+        StringObserver observer = Arc.container().instance(StringObserver.class).get();
+        StringProducer producer = Arc.container().instance(StringProducer.class).get();
+        Annotation qualifier = new AnnotationLiteral<MyQualifier>() {
+        };
+
+        for (int i = 0; i < 3; i++) {
+            beanManager.fireEvent("foo");
+            beanManager.fireEvent("qualified", qualifier);
+            // No observers
+            beanManager.fireEvent(Integer.valueOf(i));
+            producer.produce("bar");
+            producer.produceQualified("baz");
+        }
+        assertEquals(12, observer.events.size());
+        assertEquals(6, observer.qualifiedEvents.size());
+        assertEquals("foo", observer.events.get(0));
+        assertEquals("qualified", observer.events.get(1));
+        assertEquals("qualified", observer.qualifiedEvents.get(0));
+        assertEquals("bar", observer.events.get(2));
+        assertEquals("baz", observer.events.get(3));
+        assertEquals("baz", observer.qualifiedEvents.get(1));
+    }
+
+    @Singleton
+    static class StringObserver {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final List<String> qualifiedEvents = new CopyOnWriteArrayList<>();
+
+        void observe(@Observes String value) {
+            events.add(value);
+        }
+
+        void observeQualified(@Observes @MyQualifier String value) {
+            qualifiedEvents.add(value);
+        }
+
+    }
+
+    @Singleton
+    static class StringProducer {
+
+        @Inject
+        Event<String> event;
+
+        void produce(String value) {
+            event.fire(value);
+        }
+
+        @SuppressWarnings("serial")
+        void produceQualified(String value) {
+            event.select(new AnnotationLiteral<MyQualifier>() {
+            }).fire(value);
+        }
+
+    }
+
+}
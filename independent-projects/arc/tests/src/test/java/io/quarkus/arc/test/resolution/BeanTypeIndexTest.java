@@ -0,0 +1,59 @@
+package io.quarkus.arc.test.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.util.TypeLiteral;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class BeanTypeIndexTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producers.class);
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testResolution() {
+        ArcContainer arc = Arc.container();
+        // Primitive and boxed types
+        assertEquals(Integer.valueOf(42), arc.instance(int.class).get());
+        assertEquals(Integer.valueOf(42), arc.instance(Integer.class).get());
+        // Parameterized and raw types
+        assertEquals("foo", arc.instance(new TypeLiteral<List<String>>() {
+        }).get().get(0));
+        assertEquals("foo", arc.instance(new TypeLiteral<Collection<String>>() {
+        }).get().iterator().next());
+        assertFalse(arc.instance(new TypeLiteral<List<Integer>>() {
+        }).isAvailable());
+        assertFalse(arc.instance(Map.class).isAvailable());
+        // Object is a bean type of all beans
+        assertTrue(arc.beanManager().getBeans(Object.class).size() > 3);
+    }
+
+    @Singleton
+    static class Producers {
+
+        @Produces
+        int answer() {
+            return 42;
+        }
+
+        @Produces
+        List<String> list() {
+            return Collections.singletonList("foo");
+        }
+
+    }
+
+}
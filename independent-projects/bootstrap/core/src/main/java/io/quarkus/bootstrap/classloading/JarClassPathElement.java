@@ -26,14 +26,17 @@ import org.jboss.logging.Logger;
 
 /**
  * A class path element that represents a file on the file system
+ * <p>
+ * The underlying {@link JarFile} supports concurrent reads, so resources may be looked up and read by multiple threads at
+ * the same time.
  */
 public class JarClassPathElement implements ClassPathElement {
 
     private static final Logger log = Logger.getLogger(JarClassPathElement.class);
     private final File file;
     private final URL jarPath;
-    private JarFile jarFile;
-    private boolean closed;
+    private final JarFile jarFile;
+    private volatile boolean closed;
 
     public JarClassPathElement(Path root) {
         try {
@@ -45,7 +48,7 @@ public class JarClassPathElement implements ClassPathElement {
     }
 
     @Override
-    public synchronized ClassPathResource getResource(String name) {
+    public ClassPathResource getResource(String name) {
         return withJarFile(new Function<JarFile, ClassPathResource>() {
             @Override
             public ClassPathResource apply(JarFile jarFile) {
@@ -78,10 +81,10 @@ public class JarClassPathElement implements ClassPathElement {
                                 public byte[] apply(JarFile jarFile) {
                                     try {
                                         try {
-                                            return readStreamContents(jarFile.getInputStream(res));
+                                            return readEntryContents(jarFile, res);
                                         } catch (InterruptedIOException e) {
                                             //if we are interrupted reading data we finish the op, then just re-interrupt the thread state
-                                            byte[] bytes = readStreamContents(jarFile.getInputStream(res));
+                                            byte[] bytes = readEntryContents(jarFile, res);
                                             Thread.currentThread().interrupt();
                                             return bytes;
                                         }
@@ -100,21 +103,27 @@ public class JarClassPathElement implements ClassPathElement {
     }
 
     private <T> T withJarFile(Function<JarFile, T> func) {
-        if (closed) {
-            //we still need this to work if it is closed, so shutdown hooks work
-            //once it is closed it simply does not hold on to any resources
-            try (JarFile jarFile = new JarFile(file)) {
+        if (!closed) {
+            try {
                 return func.apply(jarFile);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+            } catch (RuntimeException e) {
+                if (!closed) {
+                    throw e;
+                }
+                //the jar file was closed concurrently, fall back to a new jar file
             }
-        } else {
+        }
+        //we still need this to work if it is closed, so shutdown hooks work
+        //once it is closed it simply does not hold on to any resources
+        try (JarFile jarFile = new JarFile(file)) {
             return func.apply(jarFile);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
     }
 
     @Override
-    public synchronized Set<String> getProvidedResources() {
+    public Set<String> getProvidedResources() {
         return withJarFile((new Function<JarFile, Set<String>>() {
             @Override
             public Set<String> apply(JarFile jarFile) {
@@ -159,6 +168,26 @@ public class JarClassPathElement implements ClassPathElement {
         jarFile.close();
     }
 
+    private static byte[] readEntryContents(JarFile jarFile, ZipEntry entry) throws IOException {
+        long size = entry.getSize();
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            return readStreamContents(jarFile.getInputStream(entry));
+        }
+        //the size is known, read the data directly into an array of the right size
+        try (InputStream inputStream = jarFile.getInputStream(entry)) {
+            byte[] data = new byte[(int) size];
+            int offset = 0;
+            int r;
+            while (offset < data.length && (r = inputStream.read(data, offset, data.length - offset)) > 0) {
+                offset += r;
+            }
+            if (offset != data.length) {
+                throw new IOException("Unexpected end of entry " + entry.getName() + " in " + jarFile.getName());
+            }
+            return data;
+        }
+    }
+
     public static byte[] readStreamContents(InputStream inputStream) throws IOException {
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
             byte[] buf = new byte[10000];
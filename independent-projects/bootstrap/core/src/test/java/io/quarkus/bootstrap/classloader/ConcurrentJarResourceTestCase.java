@@ -0,0 +1,80 @@
+package io.quarkus.bootstrap.classloader;
+
+import io.quarkus.bootstrap.classloading.ClassPathResource;
+import io.quarkus.bootstrap.classloading.JarClassPathElement;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentJarResourceTestCase {
+
+    private static final int RESOURCES = 200;
+    private static final int THREADS = 8;
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+        for (int i = 0; i < RESOURCES; i++) {
+            jar.addAsResource(new StringAsset(content(i)), "res/" + i + ".txt");
+        }
+        Path path = Files.createTempFile("test", ".jar");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            jar.as(ZipExporter.class).exportTo(path.toFile(), true);
+            JarClassPathElement element = new JarClassPathElement(path);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t;
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    for (int round = 0; round < 10; round++) {
+                        for (int i = 0; i < RESOURCES; i++) {
+                            int idx = (i + offset) % RESOURCES;
+                            ClassPathResource resource = element.getResource("res/" + idx + ".txt");
+                            Assertions.assertNotNull(resource);
+                            Assertions.assertEquals(content(idx), new String(resource.getData(), StandardCharsets.UTF_8));
+                        }
+                        Assertions.assertNull(element.getResource("res/missing.txt"));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            Assertions.assertEquals(RESOURCES, element.getProvidedResources().stream()
+                    .filter(r -> r.startsWith("res/") && r.endsWith(".txt")).count());
+
+            ClassPathResource resource = element.getResource("res/1.txt");
+            element.close();
+            // Resources can still be read once the element is closed
+            Assertions.assertEquals(content(1), new String(resource.getData(), StandardCharsets.UTF_8));
+            Assertions.assertEquals(content(2),
+                    new String(element.getResource("res/2.txt").getData(), StandardCharsets.UTF_8));
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static String content(int index) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i <= index; i++) {
+            builder.append("resource ").append(index).append('\n');
+        }
+        return builder.toString();
+    }
+
+}
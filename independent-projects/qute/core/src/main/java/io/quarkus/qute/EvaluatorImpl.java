@@ -1,7 +1,9 @@
 package io.quarkus.qute;
 
 import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.ExpressionImpl.ExpressionPartImpl;
 import io.quarkus.qute.Results.Result;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -34,13 +36,15 @@ class EvaluatorImpl implements Evaluator {
             }
             EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.getNamespace(), resolver.getClass());
-            return resolver.resolve(context).thenCompose(r -> {
-                if (parts.hasNext()) {
-                    return resolveReference(false, r, parts, resolutionContext);
-                } else {
-                    return CompletableFuture.completedFuture(r);
-                }
-            });
+            CompletionStage<Object> result = resolver.resolve(context);
+            if (!parts.hasNext()) {
+                return result;
+            }
+            if (Futures.isCompletedNormally(result)) {
+                // Sync fast path - no need to compose
+                return resolveReference(false, Futures.getNow(result), parts, resolutionContext);
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
         } else {
             if (expression.isLiteral()) {
                 return expression.getLiteralValue();
@@ -67,48 +71,164 @@ class EvaluatorImpl implements Evaluator {
 
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<Part> parts,
             ResolutionContext resolutionContext) {
-        Part part = parts.next();
-        EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
-        if (!parts.hasNext()) {
-            // The last part - no need to compose
-            return resolve(evalContext, resolvers.iterator());
-        } else {
-            return resolve(evalContext, resolvers.iterator())
-                    .thenCompose(r -> {
-                        if (parts.hasNext()) {
-                            return resolveReference(tryParent, r, parts, resolutionContext);
-                        } else {
-                            return CompletableFuture.completedFuture(r);
-                        }
-                    });
+        Object base = ref;
+        while (true) {
+            Part part = parts.next();
+            CompletionStage<Object> result = resolve(new EvalContextImpl(tryParent, base, part, resolutionContext),
+                    part instanceof ExpressionPartImpl ? (ExpressionPartImpl) part : null);
+            if (!parts.hasNext()) {
+                // The last part - no need to compose
+                return result;
+            }
+            if (!Futures.isCompletedNormally(result)) {
+                // The value is not available yet - continue asynchronously
+                return result.thenCompose(r -> resolveReference(tryParent, r, parts, resolutionContext));
+            }
+            // Sync fast path - continue with the next part
+            base = Futures.getNow(result);
         }
     }
 
-    private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers) {
-        if (!resolvers.hasNext()) {
+    private CompletionStage<Object> resolve(EvalContextImpl evalContext, ExpressionPartImpl part) {
+        if (part == null || evalContext.base == null) {
+            return resolve(evalContext, null, 0);
+        }
+        ResolverCache cache = part.resolverCache;
+        ValueResolver cached = cache != null ? cache.get(this, evalContext.base.getClass()) : null;
+        if (cached == null || !cached.appliesTo(evalContext)) {
+            return resolve(evalContext, part, 0);
+        }
+        // Inline cache hit - try the resolver that resolved this part for the same base class last time
+        CompletionStage<Object> result = cached.resolve(evalContext);
+        if (Futures.isCompletedNormally(result)) {
+            if (Result.NOT_FOUND.equals(Futures.getNow(result))) {
+                return resolve(evalContext, null, 0);
+            }
+            return result;
+        }
+        return result.thenCompose(r -> {
+            if (Result.NOT_FOUND.equals(r)) {
+                return resolve(evalContext, null, 0);
+            } else {
+                return CompletableFuture.completedFuture(r);
+            }
+        });
+    }
+
+    /**
+     * 
+     * @param evalContext
+     * @param part the part whose inline cache should be updated, may be {@code null}
+     * @param resolverIndex
+     * @return the result
+     */
+    private CompletionStage<Object> resolve(EvalContextImpl evalContext, ExpressionPartImpl part, int resolverIndex) {
+        while (true) {
+            for (int i = resolverIndex; i < resolvers.size(); i++) {
+                ValueResolver resolver = resolvers.get(i);
+                if (!resolver.appliesTo(evalContext)) {
+                    if (!resolver.isClassBased()) {
+                        // The resolver may apply to another object of the same class - the result cannot be cached
+                        part = null;
+                    }
+                    continue;
+                }
+                CompletionStage<Object> result = resolver.resolve(evalContext);
+                if (Futures.isCompletedNormally(result)) {
+                    // Sync fast path - most resolvers return a completed future
+                    if (Result.NOT_FOUND.equals(Futures.getNow(result))) {
+                        // A resolver with higher priority applies - the result cannot be cached for the base class
+                        part = null;
+                        continue;
+                    }
+                    if (part != null) {
+                        part.resolverCache = ResolverCache.with(part.resolverCache, this, evalContext.base.getClass(),
+                                resolver);
+                    }
+                    return result;
+                }
+                EvalContextImpl context = evalContext;
+                int nextIndex = i + 1;
+                return result.thenCompose(r -> {
+                    if (Result.NOT_FOUND.equals(r)) {
+                        return resolve(context, null, nextIndex);
+                    } else {
+                        return CompletableFuture.completedFuture(r);
+                    }
+                });
+            }
             ResolutionContext parent = evalContext.resolutionContext.getParent();
             if (evalContext.tryParent && parent != null) {
-                // Continue with parent context
-                return resolve(
-                        new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent),
-                        this.resolvers.iterator());
-            }
-            LOGGER.tracef("Unable to resolve %s", evalContext);
-            return Results.NOT_FOUND;
-        }
-        ValueResolver resolver = resolvers.next();
-        if (resolver.appliesTo(evalContext)) {
-            return resolver.resolve(evalContext).thenCompose(r -> {
-                if (Result.NOT_FOUND.equals(r)) {
-                    return resolve(evalContext, resolvers);
-                } else {
-                    return CompletableFuture.completedFuture(r);
+                // Continue with parent context - the base object is not the one the part is cached for
+                evalContext = new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent);
+                part = null;
+                resolverIndex = 0;
+            } else {
+                LOGGER.tracef("Unable to resolve %s", evalContext);
+                return Results.NOT_FOUND;
+            }
+        }
+    }
+
+    /**
+     * An immutable inline cache of resolvers that successfully resolved an expression part, keyed by the class of the base
+     * object. A resolver is only cached if all the resolvers with higher priority are {@linkplain ValueResolver#isClassBased()
+     * class-based} and did not apply, i.e. they cannot apply to any other base object of the same class.
+     */
+    static final class ResolverCache {
+
+        // Polymorphic parts are resolved using the full resolver scan
+        static final int LIMIT = 4;
+
+        static ResolverCache with(ResolverCache cache, EvaluatorImpl evaluator, Class<?> baseClass,
+                ValueResolver resolver) {
+            if (cache == null || cache.evaluator != evaluator) {
+                return new ResolverCache(evaluator, new Class<?>[] { baseClass }, new ValueResolver[] { resolver });
+            }
+            int length = cache.baseClasses.length;
+            for (int i = 0; i < length; i++) {
+                if (cache.baseClasses[i] == baseClass) {
+                    if (cache.resolvers[i] == resolver) {
+                        return cache;
+                    }
+                    ValueResolver[] resolvers = cache.resolvers.clone();
+                    resolvers[i] = resolver;
+                    return new ResolverCache(evaluator, cache.baseClasses, resolvers);
                 }
-            });
-        } else {
-            // Try next resolver
-            return resolve(evalContext, resolvers);
+            }
+            if (length >= LIMIT) {
+                return cache;
+            }
+            Class<?>[] baseClasses = Arrays.copyOf(cache.baseClasses, length + 1);
+            ValueResolver[] resolvers = Arrays.copyOf(cache.resolvers, length + 1);
+            baseClasses[length] = baseClass;
+            resolvers[length] = resolver;
+            return new ResolverCache(evaluator, baseClasses, resolvers);
         }
+
+        private final EvaluatorImpl evaluator;
+        private final Class<?>[] baseClasses;
+        private final ValueResolver[] resolvers;
+
+        private ResolverCache(EvaluatorImpl evaluator, Class<?>[] baseClasses, ValueResolver[] resolvers) {
+            this.evaluator = evaluator;
+            this.baseClasses = baseClasses;
+            this.resolvers = resolvers;
+        }
+
+        ValueResolver get(EvaluatorImpl evaluator, Class<?> baseClass) {
+            if (this.evaluator != evaluator) {
+                // The part was resolved by a different engine
+                return null;
+            }
+            for (int i = 0; i < baseClasses.length; i++) {
+                if (baseClasses[i] == baseClass) {
+                    return resolvers[i];
+                }
+            }
+            return null;
+        }
+
     }
 
     static class EvalContextImpl implements EvalContext {
@@ -86,6 +86,8 @@ final class ExpressionImpl implements Expression {
 
         protected final String name;
         protected final String typeInfo;
+        // Inline cache of resolvers keyed by the class of the base object, see EvaluatorImpl
+        volatile EvaluatorImpl.ResolverCache resolverCache;
 
         ExpressionPartImpl(String name, String typeInfo) {
             this.name = name;
@@ -14,6 +14,28 @@ class Futures {
         return failure;
     }
 
+    /**
+     * 
+     * @param stage
+     * @return {@code true} if the stage is a future that already completed normally
+     */
+    static boolean isCompletedNormally(CompletionStage<?> stage) {
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<?> future = (CompletableFuture<?>) stage;
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+        return false;
+    }
+
+    /**
+     * 
+     * @param stage A stage for which {@link #isCompletedNormally(CompletionStage)} returns {@code true}
+     * @return the result value
+     */
+    static <T> T getNow(CompletionStage<T> stage) {
+        return ((CompletableFuture<T>) stage).getNow(null);
+    }
+
     @SuppressWarnings("unchecked")
     static CompletionStage<Map<String, Object>> evaluateParams(Map<String, Expression> parameters,
             ResolutionContext resolutionContext) {
@@ -38,6 +38,11 @@ public class ReflectionValueResolver implements ValueResolver {
                 .isPresent();
     }
 
+    @Override
+    public boolean isClassBased() {
+        return true;
+    }
+
     @Override
     public CompletionStage<Object> resolve(EvalContext context) {
         Object base = context.getBase();
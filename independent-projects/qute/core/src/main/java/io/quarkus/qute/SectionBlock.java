@@ -98,7 +98,14 @@ public class SectionBlock {
         }
 
         SectionBlock.Builder addNode(TemplateNode node) {
-            nodes.add(node);
+            if (node instanceof TextNode && !nodes.isEmpty() && nodes.get(nodes.size() - 1) instanceof TextNode) {
+                // Merge adjacent text segments, e.g. separated by a comment, so that they're processed as a single node
+                TextNode last = (TextNode) nodes.get(nodes.size() - 1);
+                nodes.set(nodes.size() - 1,
+                        new TextNode(last.getValue() + ((TextNode) node).getValue(), last.getOrigin()));
+            } else {
+                nodes.add(node);
+            }
             return this;
         }
 
@@ -109,6 +109,7 @@ class SectionNode implements TemplateNode {
             this.resolutionContext = resolutionContext;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public CompletionStage<ResultNode> execute(SectionBlock block, ResolutionContext context) {
             if (block == null) {
@@ -118,20 +119,36 @@ class SectionNode implements TemplateNode {
             if (block.nodes.size() == 1) {
                 return block.nodes.get(0).resolve(context);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
-            @SuppressWarnings("unchecked")
-            CompletableFuture<ResultNode>[] results = new CompletableFuture[block.nodes.size()];
+            ResultNode[] resolved = new ResultNode[block.nodes.size()];
+            CompletableFuture<ResultNode>[] results = null;
             int idx = 0;
             for (TemplateNode node : block.nodes) {
-                results[idx++] = node.resolve(context).toCompletableFuture();
+                CompletionStage<ResultNode> nodeResult = node.resolve(context);
+                if (results == null && Futures.isCompletedNormally(nodeResult)) {
+                    // Sync fast path - no need to compose the results
+                    resolved[idx++] = Futures.getNow(nodeResult);
+                    continue;
+                }
+                if (results == null) {
+                    results = new CompletableFuture[resolved.length];
+                    for (int i = 0; i < idx; i++) {
+                        results[i] = CompletableFuture.completedFuture(resolved[i]);
+                    }
+                }
+                results[idx++] = nodeResult.toCompletableFuture();
+            }
+            if (results == null) {
+                return CompletableFuture.completedFuture(new MultiResultNode(resolved));
             }
+            CompletableFuture<ResultNode>[] futures = results;
+            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
             CompletableFuture
-                    .allOf(results)
+                    .allOf(futures)
                     .whenComplete((v, t) -> {
                         if (t != null) {
                             result.completeExceptionally(t);
                         } else {
-                            result.complete(new MultiResultNode(results));
+                            result.complete(new MultiResultNode(futures));
                         }
                     });
             return result;
@@ -85,10 +85,14 @@ class TemplateImpl implements Template {
             return renderData(data(), resultConsumer);
         }
 
+        @Override
+        public CompletionStage<ResultNode> resolve() {
+            return resolveData(data());
+        }
+
     }
 
-    private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-        CompletableFuture<Void> result = new CompletableFuture<>();
+    private CompletionStage<ResultNode> resolveData(Object data) {
         DataNamespaceResolver dataResolver = new DataNamespaceResolver();
         List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
                 .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
@@ -96,7 +100,12 @@ class TemplateImpl implements Template {
                 engine.getEvaluator(), null);
         dataResolver.rootContext = rootContext;
         // Async resolution
-        root.resolve(rootContext).whenComplete((r, t) -> {
+        return root.resolve(rootContext);
+    }
+
+    private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        resolveData(data).whenComplete((r, t) -> {
             if (t != null) {
                 result.completeExceptionally(t);
             } else {
@@ -80,4 +80,17 @@ public interface TemplateInstance {
      */
     CompletionStage<Void> consume(Consumer<String> consumer);
 
+    /**
+     * Triggers the resolution of the template. The returned result tree can be processed synchronously once resolved, e.g.
+     * to write the output in chunks without keeping the whole rendered template in memory. Note that the values are only
+     * converted to strings when the result tree is processed.
+     * <p>
+     * The default implementation renders the whole template and returns a result node which holds the output.
+     * 
+     * @return a completion stage that is completed with the result tree once the resolution finished
+     */
+    default CompletionStage<ResultNode> resolve() {
+        return renderAsync().thenApply(output -> (ResultNode) consumer -> consumer.accept(output));
+    }
+
 }
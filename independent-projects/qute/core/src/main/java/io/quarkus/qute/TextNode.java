@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
@@ -11,11 +12,13 @@ public class TextNode implements TemplateNode, ResultNode {
 
     private final CompletableFuture<ResultNode> result;
     private final String value;
+    private final byte[] utf8;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletableFuture.completedFuture(this);
         this.value = value;
+        this.utf8 = value.getBytes(StandardCharsets.UTF_8);
         this.origin = origin;
     }
 
@@ -28,9 +31,17 @@ public class TextNode implements TemplateNode, ResultNode {
         return origin;
     }
 
+    String getValue() {
+        return value;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer) {
+            ((Utf8Consumer) consumer).accept(value, utf8);
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
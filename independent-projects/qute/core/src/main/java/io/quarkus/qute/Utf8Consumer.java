@@ -0,0 +1,20 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A result consumer that is able to accept the static text of a template in its UTF-8 representation. The static text is
+ * encoded once when the template is parsed so that it does not need to be encoded for every rendering.
+ * 
+ * @see ResultNode#process(Consumer)
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     * 
+     * @param value
+     * @param utf8 The UTF-8 representation of the value, must not be modified
+     */
+    void accept(String value, byte[] utf8);
+
+}
@@ -21,6 +21,18 @@ public interface ValueResolver extends Resolver, WithPriority {
         return true;
     }
 
+    /**
+     * A class-based resolver that does not apply to a base object does not apply to any other object of the same class either,
+     * provided the name and the parameters are the same. This allows the evaluator to skip the resolver without calling
+     * {@link #appliesTo(EvalContext)}.
+     * 
+     * @return {@code true} if the result of {@link #appliesTo(EvalContext)} only depends on the class of the base object, the
+     *         name and the parameters
+     */
+    default boolean isClassBased() {
+        return false;
+    }
+
     // Utility methods
 
     static boolean matchClass(EvalContext ctx, Class<?> clazz) {
@@ -22,6 +22,11 @@ public final class ValueResolvers {
                         && (context.getName().equals("raw") || context.getName().equals("safe"));
             }
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
                 return CompletableFuture.completedFuture(new RawString(context.getBase().toString()));
@@ -36,6 +41,11 @@ public final class ValueResolvers {
                 return ValueResolver.matchClass(context, Collection.class);
             }
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
                 return collectionResolveAsync(context);
@@ -50,6 +60,11 @@ public final class ValueResolvers {
                 return context.getBase() != null && THIS.equals(context.getName());
             }
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
                 return CompletableFuture.completedFuture(context.getBase());
@@ -79,6 +94,11 @@ public final class ValueResolvers {
                 }
             }
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
                 if (context.getBase() == null || Results.Result.NOT_FOUND.equals(context.getBase())) {
@@ -103,6 +123,11 @@ public final class ValueResolvers {
                         && ("?".equals(context.getName()));
             }
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
                 if (Boolean.TRUE.equals(context.getBase())) {
@@ -121,6 +146,11 @@ public final class ValueResolvers {
                 return ValueResolver.matchClass(context, Entry.class);
             }
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
                 Entry<?, ?> entry = (Entry<?, ?>) context.getBase();
@@ -136,6 +166,11 @@ public final class ValueResolvers {
                 return ValueResolver.matchClass(context, Map.class);
             }
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
                 return mapResolveAsync(context);
@@ -150,6 +185,11 @@ public final class ValueResolvers {
                 return context.getBase() instanceof Mapper;
             }
 
+            @Override
+            public boolean isClassBased() {
+                return true;
+            }
+
             @Override
             public int getPriority() {
                 // mapper is used in loops so we use a higher priority to jump the queue
@@ -0,0 +1,266 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.qute.Results.Result;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class EvaluatorTest {
+
+    @Test
+    public void testPendingAndCompletedResults() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Engine engine = Engine.builder().addDefaultValueResolvers()
+                    // Pending result
+                    .addValueResolver(new ValueResolver() {
+
+                        @Override
+                        public int getPriority() {
+                            return WithPriority.DEFAULT_PRIORITY + 2;
+                        }
+
+                        @Override
+                        public boolean appliesTo(EvalContext context) {
+                            return context.getName().startsWith("async");
+                        }
+
+                        @Override
+                        public CompletionStage<Object> resolve(EvalContext context) {
+                            String name = context.getName();
+                            return CompletableFuture.supplyAsync(() -> {
+                                if (name.equals("asyncNotFound")) {
+                                    return Result.NOT_FOUND;
+                                }
+                                Map<String, Object> map = new HashMap<>();
+                                map.put("name", name.toUpperCase());
+                                return map;
+                            }, executor);
+                        }
+                    })
+                    // Completed result, used if the async resolver does not find the value
+                    .addValueResolver(new ValueResolver() {
+
+                        @Override
+                        public int getPriority() {
+                            return WithPriority.DEFAULT_PRIORITY + 1;
+                        }
+
+                        @Override
+                        public boolean appliesTo(EvalContext context) {
+                            return context.getName().equals("asyncNotFound");
+                        }
+
+                        @Override
+                        public CompletionStage<Object> resolve(EvalContext context) {
+                            return CompletableFuture.completedFuture("fallback");
+                        }
+                    })
+                    .build();
+
+            Map<String, Object> item = new HashMap<>();
+            item.put("name", "foo");
+            Map<String, Object> data = new HashMap<>();
+            data.put("item", item);
+
+            assertEquals("foo:ASYNCFOO:fallback:ASYNCBAR",
+                    engine.parse("{item.name}:{item.asyncFoo.name}:{item.asyncNotFound}:{asyncBar.name}").render(data));
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        Engine engine = Engine.builder().addDefaultValueResolvers().addValueResolver(new ValueResolver() {
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                return context.getName().equals("fail");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                return Futures.failure(new IllegalStateException("Foo"));
+            }
+        }).build();
+
+        try {
+            engine.parse("{item.fail.name}").data("item", new HashMap<>()).render();
+        } catch (IllegalStateException expected) {
+            assertEquals("Foo", expected.getMessage());
+            return;
+        }
+        throw new AssertionError("IllegalStateException expected");
+    }
+
+    @Test
+    public void testResolverInlineCache() {
+        AtomicInteger skippedApplies = new AtomicInteger();
+        AtomicInteger fooApplies = new AtomicInteger();
+        Engine engine = Engine.builder().addDefaultValueResolvers()
+                // Never applies to the base objects used in the template
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public int getPriority() {
+                        return WithPriority.DEFAULT_PRIORITY + 2;
+                    }
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        skippedApplies.incrementAndGet();
+                        return context.getBase() instanceof CharSequence;
+                    }
+
+                    @Override
+                    public boolean isClassBased() {
+                        return true;
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        return CompletableFuture.completedFuture("cs");
+                    }
+                })
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public int getPriority() {
+                        return WithPriority.DEFAULT_PRIORITY + 1;
+                    }
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        fooApplies.incrementAndGet();
+                        return context.getBase() instanceof Foo;
+                    }
+
+                    @Override
+                    public boolean isClassBased() {
+                        return true;
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        return CompletableFuture.completedFuture("foo:" + context.getName());
+                    }
+                })
+                .build();
+
+        Template template = engine.parse("{item.name}");
+        assertEquals("foo:name", template.render(Collections.singletonMap("item", new Foo())));
+        int skipped = skippedApplies.get();
+        int foo = fooApplies.get();
+        // The resolver that applied last time for the same base class is used directly
+        assertEquals("foo:name", template.render(Collections.singletonMap("item", new Foo())));
+        assertEquals("foo:name", template.render(Collections.singletonMap("item", new Foo())));
+        // The class-based resolver with higher priority is not tested again, only the cached resolver is
+        assertEquals(skipped, skippedApplies.get());
+        assertEquals(foo + 2, fooApplies.get());
+        // Another base class - the full scan is performed
+        Map<String, Object> item = new HashMap<>();
+        item.put("name", "map");
+        assertEquals("map", template.render(Collections.singletonMap("item", item)));
+        assertEquals("foo:name", template.render(Collections.singletonMap("item", new Foo())));
+        assertEquals("map", template.render(Collections.singletonMap("item", item)));
+    }
+
+    @Test
+    public void testResolverInlineCacheValueDependentResolver() {
+        Engine engine = Engine.builder().addDefaultValueResolvers().addValueResolver(new ReflectionValueResolver())
+                // Only applies to some instances of a class - not class-based
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public int getPriority() {
+                        return WithPriority.DEFAULT_PRIORITY + 1;
+                    }
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        return context.getBase() instanceof Item && ((Item) context.getBase()).special;
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        return CompletableFuture.completedFuture("special");
+                    }
+                })
+                .build();
+        Template template = engine.parse("{item.name}");
+        assertEquals("item", template.data("item", new Item(false)).render());
+        assertEquals("item", template.data("item", new Item(false)).render());
+        // The resolver with higher priority applies to this instance
+        assertEquals("special", template.data("item", new Item(true)).render());
+        assertEquals("item", template.data("item", new Item(false)).render());
+    }
+
+    @Test
+    public void testResolverInlineCacheNotFound() {
+        Engine engine = Engine.builder().addDefaultValueResolvers().build();
+        Template template = engine.parse("{item.size}:{flag ? 'yes' : 'no'}");
+        Map<String, Object> data = new HashMap<>();
+        List<String> list = new ArrayList<>();
+        list.add("foo");
+        data.put("item", list);
+        data.put("flag", true);
+        assertEquals("1:yes", template.render(data));
+        // The true resolver returns NOT_FOUND for false - the other resolvers must be used
+        data.put("flag", false);
+        assertEquals("1:no", template.render(data));
+        data.put("flag", true);
+        assertEquals("1:yes", template.render(data));
+        // The map resolver applies to the item but does not find the value - the reflection resolver is used
+        Engine reflectionEngine = Engine.builder().addDefaultValueResolvers().addValueResolver(new ReflectionValueResolver())
+                .build();
+        Template reflectionTemplate = reflectionEngine.parse("{item.label}");
+        Bag empty = new Bag();
+        assertEquals("bag", reflectionTemplate.data("item", empty).render());
+        Bag withLabel = new Bag();
+        withLabel.put("label", "key");
+        assertEquals("key", reflectionTemplate.data("item", withLabel).render());
+        assertEquals("bag", reflectionTemplate.data("item", empty).render());
+    }
+
+    public static class Foo {
+
+    }
+
+    public static class Item {
+
+        final boolean special;
+
+        Item(boolean special) {
+            this.special = special;
+        }
+
+        public String getName() {
+            return "item";
+        }
+
+    }
+
+    public static class Bag extends HashMap<String, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        public String getLabel() {
+            return "bag";
+        }
+
+    }
+
+}
@@ -123,6 +123,16 @@ public class ParserTest {
         assertEquals(1, origin.getLine());
     }
 
+    @Test
+    public void testAdjacentTextMerged() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Hello{! comment !} world{! another !}!{name}");
+        List<TemplateNode> nodes = ((TemplateImpl) template).root.blocks.get(0).nodes;
+        assertEquals(2, nodes.size());
+        assertEquals("Hello world!", ((TextNode) nodes.get(0)).getValue());
+        assertEquals("Hello world!foo", template.data("name", "foo").render());
+    }
+
     @Test
     public void testWithTemplateLocator() {
         Engine engine = Engine.builder().addDefaultSectionHelpers().addLocator(id -> Optional.of(new TemplateLocation() {
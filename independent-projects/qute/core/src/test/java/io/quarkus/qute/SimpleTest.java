@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateNode.Origin;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,6 +35,30 @@ public class SimpleTest {
         assertEquals("Hello world!\n\nLu", template.render(data));
     }
 
+    @Test
+    public void testUtf8Consumer() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        List<String> encoded = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        engine.parse("<p>\u00e1</p>{name}").data("name", "\u017e").resolve().toCompletableFuture().get()
+                .process(new Utf8Consumer() {
+
+                    @Override
+                    public void accept(String value) {
+                        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                        out.write(bytes, 0, bytes.length);
+                    }
+
+                    @Override
+                    public void accept(String value, byte[] utf8) {
+                        encoded.add(value);
+                        out.write(utf8, 0, utf8.length);
+                    }
+                });
+        assertEquals(Collections.singletonList("<p>\u00e1</p>"), encoded);
+        assertEquals("<p>\u00e1</p>\u017e", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
     @Test
     public void tesCustomValueResolver() {
         Engine engine = Engine.builder().addValueResolver(ValueResolvers.thisResolver()).addValueResolver(new ValueResolver() {
@@ -132,11 +132,19 @@ public class ExtensionMethodGenerator {
 
         implementGetPriority(valueResolver, priority);
         implementAppliesTo(valueResolver, method, matchName);
+        implementIsClassBased(valueResolver);
         implementResolve(valueResolver, declaringClass, method, matchName);
 
         valueResolver.close();
     }
 
+    private void implementIsClassBased(ClassCreator valueResolver) {
+        // appliesTo() only tests the class of the base object, the name and the parameters
+        MethodCreator isClassBased = valueResolver.getMethodCreator("isClassBased", boolean.class)
+                .setModifiers(ACC_PUBLIC);
+        isClassBased.returnValue(isClassBased.load(true));
+    }
+
     private void implementGetPriority(ClassCreator valueResolver, int priority) {
         MethodCreator getPriority = valueResolver.getMethodCreator("getPriority", int.class)
                 .setModifiers(ACC_PUBLIC);
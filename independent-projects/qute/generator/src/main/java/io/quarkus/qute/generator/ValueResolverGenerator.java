@@ -145,6 +145,7 @@ public class ValueResolverGenerator {
 
         implementGetPriority(valueResolver);
         implementAppliesTo(valueResolver, clazz);
+        implementIsClassBased(valueResolver);
         implementResolve(valueResolver, clazzName, clazz, filters);
 
         valueResolver.close();
@@ -160,6 +161,13 @@ public class ValueResolverGenerator {
         }
     }
 
+    private void implementIsClassBased(ClassCreator valueResolver) {
+        // appliesTo() only tests the class of the base object, the name and the parameters
+        MethodCreator isClassBased = valueResolver.getMethodCreator("isClassBased", boolean.class)
+                .setModifiers(ACC_PUBLIC);
+        isClassBased.returnValue(isClassBased.load(true));
+    }
+
     private void implementGetPriority(ClassCreator valueResolver) {
         MethodCreator getPriority = valueResolver.getMethodCreator("getPriority", int.class)
                 .setModifiers(ACC_PUBLIC);